@@ -0,0 +1,79 @@
+package com.learnapp.controller;
+
+import com.learnapp.dto.CreateExportRequest;
+import com.learnapp.dto.ExportJobResponse;
+import com.learnapp.security.UserPrincipal;
+import com.learnapp.service.ExportJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.UUID;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/exports")
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Admin Exports", description = "Background export jobs")
+public class AdminExportController {
+
+    private final ExportJobService exportJobService;
+
+    public AdminExportController(ExportJobService exportJobService) {
+        this.exportJobService = exportJobService;
+    }
+
+    /**
+     * Queue an export job. Admin-only.
+     */
+    @Operation(
+            summary = "Create export",
+            description = "Queue a users/topics/vocabulary export as gzip-compressed CSV or NDJSON."
+    )
+    @PostMapping
+    public ResponseEntity<ExportJobResponse> create(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @Valid @RequestBody CreateExportRequest request
+    ) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(exportJobService.create(principal.id(), request));
+    }
+
+    /**
+     * Get export job status. Admin-only.
+     */
+    @Operation(summary = "Get export", description = "Get the status of an export job.")
+    @GetMapping("/{id}")
+    public ExportJobResponse get(@PathVariable UUID id) {
+        return exportJobService.get(id);
+    }
+
+    /**
+     * Download a completed export. Admin-only.
+     */
+    @Operation(summary = "Download export", description = "Download the gzip file of a completed export job.")
+    @GetMapping("/{id}/download")
+    public ResponseEntity<Resource> download(@PathVariable UUID id) {
+        ExportJobService.ExportFile file = exportJobService.download(id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(file.fileName()).build().toString()
+                )
+                .body(new FileSystemResource(file.path()));
+    }
+}
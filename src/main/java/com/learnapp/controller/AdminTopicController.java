@@ -4,11 +4,16 @@ import com.learnapp.dto.CreateTopicRequest;
 import com.learnapp.dto.TopicResponse;
 import com.learnapp.dto.UpdateTopicRequest;
 import com.learnapp.entities.TopicStatus;
+import com.learnapp.service.CsvExports;
+import com.learnapp.service.CsvWriter;
 import com.learnapp.service.TopicService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import java.time.format.DateTimeFormatter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.UUID;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
@@ -53,18 +58,23 @@ public class AdminTopicController {
     /**
      * Export topics to CSV. Admin-only.
      */
-    @Operation(summary = "Export topics", description = "Export topics to CSV with the same filters as search.")
+    @Operation(
+            summary = "Export topics",
+            description = "Stream topics as CSV with the same filters as search. Gzip-encoded when accepted."
+    )
     @GetMapping(value = "/export", produces = "text/csv")
-    public org.springframework.http.ResponseEntity<String> export(
+    public void export(
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String slug,
-            @RequestParam(required = false) TopicStatus status
-    ) {
-        String csv = buildCsv(topicService.exportTopics(name, slug, status));
-        return org.springframework.http.ResponseEntity.ok()
-                .header("Content-Disposition", "attachment; filename=\"topics.csv\"")
-                .header("Content-Type", "text/csv; charset=utf-8")
-                .body(csv);
+            @RequestParam(required = false) TopicStatus status,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        OutputStream body = ExportResponses.open(request, response, "text/csv; charset=utf-8", "topics.csv");
+        try (CsvWriter csv = new CsvWriter(body)) {
+            csv.header(CsvExports.TOPIC_COLUMNS);
+            topicService.exportTopics(name, slug, status, topic -> CsvExports.writeTopic(csv, topic));
+        }
     }
 
     /**
@@ -93,40 +103,4 @@ public class AdminTopicController {
     public void delete(@PathVariable UUID id) {
         topicService.deleteTopic(id);
     }
-
-    private String buildCsv(java.util.List<TopicResponse> topics) {
-        StringBuilder builder = new StringBuilder();
-        // UTF-8 BOM for Excel compatibility
-        builder.append('\uFEFF');
-        builder.append("id,name,slug,description,createdAt").append("\n");
-        DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
-        for (TopicResponse topic : topics) {
-            builder.append(escapeCsv(valueOrEmpty(topic.id()))).append(",")
-                    .append(escapeCsv(topic.name())).append(",")
-                    .append(escapeCsv(topic.slug())).append(",")
-                    .append(escapeCsv(topic.description())).append(",")
-                    .append(escapeCsv(formatDate(topic.createdAt(), formatter)))
-                    .append("\n");
-        }
-        return builder.toString();
-    }
-
-    private String escapeCsv(String value) {
-        if (value == null) {
-            return "";
-        }
-        String escaped = value.replace("\"", "\"\"");
-        if (escaped.contains(",") || escaped.contains("\n") || escaped.contains("\r")) {
-            return "\"" + escaped + "\"";
-        }
-        return escaped;
-    }
-
-    private String valueOrEmpty(Object value) {
-        return value == null ? "" : value.toString();
-    }
-
-    private String formatDate(java.time.LocalDateTime value, DateTimeFormatter formatter) {
-        return value == null ? "" : formatter.format(value);
-    }
 }
@@ -2,21 +2,26 @@ package com.learnapp.controller;
 
 import com.learnapp.dto.AdminUpdateUserRequest;
 import com.learnapp.dto.AdminResetPasswordRequest;
+import com.learnapp.dto.CursorPage;
 import com.learnapp.dto.RegisterRequest;
 import com.learnapp.dto.UserResponse;
 import com.learnapp.entities.UserRole;
 import com.learnapp.entities.UserStatus;
 import com.learnapp.service.AuthService;
+import com.learnapp.service.CsvExports;
+import com.learnapp.service.CsvWriter;
 import com.learnapp.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import java.nio.charset.StandardCharsets;
-import java.time.format.DateTimeFormatter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.UUID;
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -47,34 +52,63 @@ public class AdminUserController {
      */
     @Operation(summary = "List users", description = "List non-deleted users.")
     @org.springframework.web.bind.annotation.GetMapping
-    public Page<UserResponse> listUsers(
+    public Slice<UserResponse> listUsers(
             @org.springframework.web.bind.annotation.RequestParam(required = false) String email,
             @org.springframework.web.bind.annotation.RequestParam(required = false) String username,
             @org.springframework.web.bind.annotation.RequestParam(required = false) String displayName,
             @org.springframework.web.bind.annotation.RequestParam(required = false) UserRole role,
             @org.springframework.web.bind.annotation.RequestParam(required = false) UserStatus status,
+            @org.springframework.web.bind.annotation.RequestParam(defaultValue = "true") boolean count,
             @ParameterObject Pageable pageable
     ) {
+        if (!count) {
+            return userService.listUsersSlice(email, username, displayName, role, status, pageable);
+        }
         return userService.listUsers(email, username, displayName, role, status, pageable);
     }
 
+    /**
+     * Scroll users with a continuation cursor, newest first. Admin-only.
+     */
+    @Operation(
+            summary = "Scroll users",
+            description = "Keyset-paginated user list. Pass an empty cursor for the first page, then nextCursor."
+    )
+    @org.springframework.web.bind.annotation.GetMapping(params = "cursor")
+    public CursorPage<UserResponse> scrollUsers(
+            @org.springframework.web.bind.annotation.RequestParam(required = false) String email,
+            @org.springframework.web.bind.annotation.RequestParam(required = false) String username,
+            @org.springframework.web.bind.annotation.RequestParam(required = false) String displayName,
+            @org.springframework.web.bind.annotation.RequestParam(required = false) UserRole role,
+            @org.springframework.web.bind.annotation.RequestParam(required = false) UserStatus status,
+            @org.springframework.web.bind.annotation.RequestParam String cursor,
+            @org.springframework.web.bind.annotation.RequestParam(defaultValue = "20") int size
+    ) {
+        return userService.scrollUsers(email, username, displayName, role, status, cursor, size);
+    }
+
     /**
      * Export users to CSV. Admin-only.
      */
-    @Operation(summary = "Export users", description = "Export users to CSV with the same filters as search.")
+    @Operation(
+            summary = "Export users",
+            description = "Stream users as CSV with the same filters as search. Gzip-encoded when accepted."
+    )
     @org.springframework.web.bind.annotation.GetMapping(value = "/export", produces = "text/csv")
-    public ResponseEntity<String> exportUsers(
+    public void exportUsers(
             @org.springframework.web.bind.annotation.RequestParam(required = false) String email,
             @org.springframework.web.bind.annotation.RequestParam(required = false) String username,
             @org.springframework.web.bind.annotation.RequestParam(required = false) String displayName,
             @org.springframework.web.bind.annotation.RequestParam(required = false) UserRole role,
-            @org.springframework.web.bind.annotation.RequestParam(required = false) UserStatus status
-    ) {
-        String csv = buildCsv(userService.exportUsers(email, username, displayName, role, status));
-        return ResponseEntity.ok()
-                .header("Content-Disposition", "attachment; filename=\"users.csv\"")
-                .header("Content-Type", "text/csv; charset=utf-8")
-                .body(csv);
+            @org.springframework.web.bind.annotation.RequestParam(required = false) UserStatus status,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        OutputStream body = ExportResponses.open(request, response, "text/csv; charset=utf-8", "users.csv");
+        try (CsvWriter csv = new CsvWriter(body)) {
+            csv.header(CsvExports.USER_COLUMNS);
+            userService.exportUsers(email, username, displayName, role, status, user -> CsvExports.writeUser(csv, user));
+        }
     }
 
     /**
@@ -125,48 +159,4 @@ public class AdminUserController {
     public UserResponse restoreUser(@PathVariable UUID userId) {
         return userService.restoreUser(userId);
     }
-
-    private String buildCsv(java.util.List<UserResponse> users) {
-        StringBuilder builder = new StringBuilder();
-        // UTF-8 BOM for Excel compatibility
-        builder.append('\uFEFF');
-        builder.append("id,email,username,displayName,role,status,locale,timeZone,dailyGoal,lastLoginAt,createdAt,updatedAt")
-                .append("\n");
-        DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
-        for (UserResponse user : users) {
-            builder.append(escapeCsv(valueOrEmpty(user.id()))).append(",")
-                    .append(escapeCsv(user.email())).append(",")
-                    .append(escapeCsv(user.username())).append(",")
-                    .append(escapeCsv(user.displayName())).append(",")
-                    .append(escapeCsv(valueOrEmpty(user.role()))).append(",")
-                    .append(escapeCsv(valueOrEmpty(user.status()))).append(",")
-                    .append(escapeCsv(user.locale())).append(",")
-                    .append(escapeCsv(user.timeZone())).append(",")
-                    .append(escapeCsv(valueOrEmpty(user.dailyGoal()))).append(",")
-                    .append(escapeCsv(formatDate(user.lastLoginAt(), formatter))).append(",")
-                    .append(escapeCsv(formatDate(user.createdAt(), formatter))).append(",")
-                    .append(escapeCsv(formatDate(user.updatedAt(), formatter)))
-                    .append("\n");
-        }
-        return builder.toString();
-    }
-
-    private String escapeCsv(String value) {
-        if (value == null) {
-            return "";
-        }
-        String escaped = value.replace("\"", "\"\"");
-        if (escaped.contains(",") || escaped.contains("\n") || escaped.contains("\r")) {
-            return "\"" + escaped + "\"";
-        }
-        return escaped;
-    }
-
-    private String valueOrEmpty(Object value) {
-        return value == null ? "" : value.toString();
-    }
-
-    private String formatDate(java.time.LocalDateTime value, DateTimeFormatter formatter) {
-        return value == null ? "" : formatter.format(value);
-    }
 }
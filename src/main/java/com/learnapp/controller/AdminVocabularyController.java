@@ -1,16 +1,35 @@
 package com.learnapp.controller;
 
+import com.learnapp.dto.FileFormat;
+import com.learnapp.dto.ImportJobResponse;
 import com.learnapp.dto.VocabularyResponse;
-import com.learnapp.entities.Vocabulary;
+import com.learnapp.entities.VocabularyStatus;
+import com.learnapp.error.AppException;
+import com.learnapp.security.UserPrincipal;
+import com.learnapp.service.VocabularyImportService;
+import com.learnapp.service.VocabularyNgramBackfillJob;
+import com.learnapp.service.VocabularyMapper;
 import com.learnapp.service.VocabularyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.UUID;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 @RestController
 @RequestMapping("/admin/vocab")
@@ -19,9 +38,17 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminVocabularyController {
 
     private final VocabularyService vocabularyService;
+    private final VocabularyNgramBackfillJob ngramBackfillJob;
+    private final VocabularyImportService importService;
 
-    public AdminVocabularyController(VocabularyService vocabularyService) {
+    public AdminVocabularyController(
+            VocabularyService vocabularyService,
+            VocabularyNgramBackfillJob ngramBackfillJob,
+            VocabularyImportService importService
+    ) {
         this.vocabularyService = vocabularyService;
+        this.ngramBackfillJob = ngramBackfillJob;
+        this.importService = importService;
     }
 
     /**
@@ -30,7 +57,7 @@ public class AdminVocabularyController {
     @Operation(summary = "Approve vocab", description = "Approve a pending vocabulary contribution.")
     @PatchMapping("/{id}/approve")
     public VocabularyResponse approve(@PathVariable UUID id) {
-        return toResponse(vocabularyService.approve(id));
+        return VocabularyMapper.toResponse(vocabularyService.approve(id));
     }
 
     /**
@@ -39,21 +66,61 @@ public class AdminVocabularyController {
     @Operation(summary = "Reject vocab", description = "Reject a pending vocabulary contribution.")
     @PatchMapping("/{id}/reject")
     public VocabularyResponse reject(@PathVariable UUID id) {
-        return toResponse(vocabularyService.reject(id));
+        return VocabularyMapper.toResponse(vocabularyService.reject(id));
     }
 
-    private VocabularyResponse toResponse(Vocabulary vocabulary) {
-        return new VocabularyResponse(
-                vocabulary.getId(),
-                vocabulary.getTerm(),
-                vocabulary.getDefinition(),
-                vocabulary.getExample(),
-                vocabulary.getPhonetic(),
-                vocabulary.getPartOfSpeech(),
-                vocabulary.getLanguage(),
-                vocabulary.getStatus(),
-                vocabulary.getCreatedBy(),
-                vocabulary.getCreatedAt()
-        );
+    /**
+     * Rebuild missing substring-search n-grams in the background.
+     */
+    @Operation(summary = "Backfill vocab n-grams", description = "Index vocabularies missing from the n-gram table.")
+    @PostMapping("/ngrams/backfill")
+    public ResponseEntity<Void> backfillNgrams() {
+        if (!ngramBackfillJob.start()) {
+            throw new AppException(HttpStatus.CONFLICT, "BACKFILL_RUNNING", "Backfill is already running");
+        }
+        return ResponseEntity.accepted().build();
+    }
+
+    /**
+     * Upload a CSV or NDJSON word list to import in the background.
+     */
+    @Operation(
+            summary = "Import vocab",
+            description = "Bulk import vocabularies from a CSV or NDJSON file. Duplicates and invalid rows are "
+                    + "skipped and listed in the job's error file."
+    )
+    @PostMapping(value = "/imports", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobResponse> importVocabulary(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) FileFormat format,
+            @RequestParam(required = false) VocabularyStatus status
+    ) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(importService.start(principal.id(), file, format, status));
+    }
+
+    /**
+     * Get import job progress.
+     */
+    @Operation(summary = "Get vocab import", description = "Get the progress and counters of an import job.")
+    @GetMapping("/imports/{id}")
+    public ImportJobResponse getImport(@PathVariable UUID id) {
+        return importService.get(id);
+    }
+
+    /**
+     * Download the rejected rows of a finished import.
+     */
+    @Operation(summary = "Download import errors", description = "CSV of rows that were not imported, with reasons.")
+    @GetMapping("/imports/{id}/errors")
+    public ResponseEntity<Resource> importErrors(@PathVariable UUID id) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv; charset=utf-8"))
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("import-" + id + "-errors.csv").build().toString()
+                )
+                .body(new FileSystemResource(importService.errorFile(id)));
     }
 }
@@ -0,0 +1,42 @@
+package com.learnapp.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Conditional GET for catalog reads. The strong ETag hashes the resource, its version and
+ * the raw query string, so it can be checked against {@code If-None-Match} before the
+ * response body is loaded or serialized.
+ */
+final class ConditionalGets {
+
+    private ConditionalGets() {
+    }
+
+    /**
+     * Sets the ETag and {@code Cache-Control: no-cache}; true when the client's copy is
+     * current and a 304 has been prepared, in which case the handler returns null.
+     */
+    static boolean notModified(ServletWebRequest request, String resource, Object version) {
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        return request.checkNotModified(etag(resource, version, request.getRequest().getQueryString()));
+    }
+
+    static String etag(String resource, Object version, String queryString) {
+        String key = resource + '|' + version + '|' + (queryString == null ? "" : queryString);
+        byte[] hash = sha256().digest(key.getBytes(StandardCharsets.UTF_8));
+        return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
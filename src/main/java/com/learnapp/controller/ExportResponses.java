@@ -0,0 +1,74 @@
+package com.learnapp.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Prepares a file-download response body, gzip-encoded when the client accepts it.
+ */
+final class ExportResponses {
+
+    private ExportResponses() {
+    }
+
+    static OutputStream open(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            String contentType,
+            String fileName
+    ) throws IOException {
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(request)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            return new GZIPOutputStream(response.getOutputStream(), 8192);
+        }
+        return response.getOutputStream();
+    }
+
+    /**
+     * True when {@code Accept-Encoding} lists gzip, or {@code *} without naming gzip, with a
+     * non-zero q-value.
+     */
+    static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double wildcard = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = quality(parts);
+            } else if (coding.equals("*")) {
+                wildcard = quality(parts);
+            }
+        }
+        if (gzip != null) {
+            return gzip > 0;
+        }
+        return wildcard != null && wildcard > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,39 @@
+package com.learnapp.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Sends a local file as the response body, zero-copy through the servlet container's
+ * sendfile support when it offers it (Tomcat NIO), streamed otherwise.
+ */
+final class FileResponses {
+
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private FileResponses() {
+    }
+
+    static void send(HttpServletRequest request, HttpServletResponse response, Path file, long length)
+            throws IOException {
+        response.setContentLengthLong(length);
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, length);
+            return;
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            OutputStream out = response.getOutputStream();
+            in.transferTo(out);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.learnapp.controller;
+
+import com.learnapp.dto.LeaderboardEntryResponse;
+import com.learnapp.dto.LeaderboardMetric;
+import com.learnapp.dto.LeaderboardPeriod;
+import com.learnapp.security.UserPrincipal;
+import com.learnapp.service.LeaderboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/leaderboard")
+@Tag(name = "Leaderboard", description = "Weekly and all-time leaderboard APIs")
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    public LeaderboardController(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
+    /**
+     * Top users for a metric and period.
+     */
+    @Operation(summary = "Leaderboard", description = "Top users by words mastered or reviews, weekly or all-time.")
+    @GetMapping
+    public List<LeaderboardEntryResponse> top(
+            @RequestParam(defaultValue = "MASTERED") LeaderboardMetric metric,
+            @RequestParam(defaultValue = "WEEKLY") LeaderboardPeriod period,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return leaderboardService.top(metric, period, limit);
+    }
+
+    /**
+     * The current user's rank and score.
+     */
+    @Operation(summary = "My rank", description = "Rank and score of the current user on a leaderboard.")
+    @GetMapping("/me")
+    public LeaderboardEntryResponse me(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(defaultValue = "MASTERED") LeaderboardMetric metric,
+            @RequestParam(defaultValue = "WEEKLY") LeaderboardPeriod period
+    ) {
+        return leaderboardService.rankOf(principal.id(), metric, period);
+    }
+}
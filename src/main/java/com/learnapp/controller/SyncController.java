@@ -0,0 +1,40 @@
+package com.learnapp.controller;
+
+import com.learnapp.dto.SyncResponse;
+import com.learnapp.security.UserPrincipal;
+import com.learnapp.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/sync")
+@Tag(name = "Sync", description = "Delta sync APIs for offline clients")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    /**
+     * Rows changed since the given sync token.
+     */
+    @Operation(
+            summary = "Delta sync",
+            description = "Learning list, vocabularies and topics changed since the token. Omit since for a full sync."
+    )
+    @GetMapping
+    public SyncResponse sync(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit
+    ) {
+        return syncService.sync(principal.id(), since, limit);
+    }
+}
@@ -1,23 +1,35 @@
 package com.learnapp.controller;
 
+import com.learnapp.dto.CursorPage;
 import com.learnapp.dto.TopicResponse;
 import com.learnapp.dto.VocabularyResponse;
-import com.learnapp.entities.Topic;
-import com.learnapp.entities.Vocabulary;
+import com.learnapp.dto.VocabularySearchMode;
 import com.learnapp.entities.VocabularyStatus;
+import com.learnapp.service.TopicDeckService;
+import com.learnapp.service.TopicMapper;
+import com.learnapp.service.TopicPageCache;
 import com.learnapp.service.TopicService;
+import com.learnapp.service.VocabularyMapper;
 import com.learnapp.service.VocabularyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.UUID;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping("/topics")
@@ -26,24 +38,44 @@ public class TopicController {
 
     private final TopicService topicService;
     private final VocabularyService vocabularyService;
+    private final TopicDeckService topicDeckService;
+    private final TopicPageCache topicPageCache;
 
-    public TopicController(TopicService topicService, VocabularyService vocabularyService) {
+    public TopicController(
+            TopicService topicService,
+            VocabularyService vocabularyService,
+            TopicDeckService topicDeckService,
+            TopicPageCache topicPageCache
+    ) {
         this.topicService = topicService;
         this.vocabularyService = vocabularyService;
+        this.topicDeckService = topicDeckService;
+        this.topicPageCache = topicPageCache;
     }
 
     /**
-     * List active topics.
+     * List active topics. Unfiltered pages are written straight from {@link TopicPageCache}.
      */
-    @Operation(summary = "List topics", description = "List active vocabulary topics.")
+    @Operation(summary = "List topics", description = "List active vocabulary topics. Supports If-None-Match.")
     @GetMapping
     public Page<TopicResponse> listTopics(
             @RequestParam(required = false) String query,
-            @ParameterObject Pageable pageable
-    ) {
-        System.out.println(query);
+            @ParameterObject Pageable pageable,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
         if (query == null || query.trim().isEmpty()) {
-            return topicService.listActive(pageable).map(this::toTopicResponse);
+            TopicPageCache.CachedPage page = topicPageCache.get(
+                    pageable,
+                    topicService::catalogListVersion,
+                    () -> topicService.listActive(pageable).map(TopicMapper::toResponse)
+            );
+            writeCachedPage(page, webRequest);
+            return null;
+        }
+        if (ConditionalGets.notModified(webRequest, "topics", topicService.catalogListVersion())) {
+            return null;
         }
         return topicService.searchTopics(query, query, com.learnapp.entities.TopicStatus.ACTIVE, pageable);
     }
@@ -51,49 +83,125 @@ public class TopicController {
     /**
      * Get a topic by id.
      */
-    @Operation(summary = "Get topic", description = "Get an active topic by id.")
+    @Operation(summary = "Get topic", description = "Get an active topic by id. Supports If-None-Match.")
     @GetMapping("/{id}")
-    public TopicResponse getTopic(@PathVariable UUID id) {
-        return toTopicResponse(topicService.getActiveById(id));
+    public TopicResponse getTopic(@PathVariable UUID id, ServletWebRequest request) {
+        if (topicNotModified(id, "topic", null, request)) {
+            return null;
+        }
+        return TopicMapper.toResponse(topicService.getActiveById(id));
     }
 
     /**
      * List approved vocabularies in a topic.
      */
-    @Operation(summary = "List vocab in topic", description = "List approved vocabularies under a topic.")
+    @Operation(
+            summary = "List vocab in topic",
+            description = "List approved vocabularies under a topic. Supports If-None-Match."
+    )
     @GetMapping("/{id}/vocab")
-    public Page<VocabularyResponse> listTopicVocabulary(
+    public Slice<VocabularyResponse> listTopicVocabulary(
             @PathVariable UUID id,
             @RequestParam(required = false) String query,
             @RequestParam(required = false) String language,
             @RequestParam(required = false) VocabularyStatus status,
-            @ParameterObject Pageable pageable
+            @RequestParam(required = false) VocabularySearchMode mode,
+            @RequestParam(defaultValue = "true") boolean count,
+            @ParameterObject Pageable pageable,
+            ServletWebRequest request
     ) {
-        return vocabularyService.searchApproved(query, id, language, status, pageable).map(this::toVocabularyResponse);
+        if (topicNotModified(id, "topic-vocab", status, request)) {
+            return null;
+        }
+        if (!count) {
+            return vocabularyService.searchApprovedSlice(query, id, language, status, mode, pageable)
+                    .map(VocabularyMapper::toResponse);
+        }
+        return vocabularyService.searchApproved(query, id, language, status, mode, pageable)
+                .map(VocabularyMapper::toResponse);
     }
 
-    private TopicResponse toTopicResponse(Topic topic) {
-        return new TopicResponse(
-                topic.getId(),
-                topic.getName(),
-                topic.getSlug(),
-                topic.getDescription(),
-                topic.getCreatedAt()
+    /**
+     * Download every approved vocabulary of a topic as one precomputed, gzip-compressed JSON file.
+     */
+    @Operation(
+            summary = "Download topic deck",
+            description = "All approved vocabularies of a topic in one gzip file. Supports If-None-Match."
+    )
+    @GetMapping("/{id}/deck")
+    public void downloadDeck(
+            @PathVariable UUID id,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        TopicDeckService.DeckFile deck = topicDeckService.get(id);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        if (new ServletWebRequest(request, response).checkNotModified(deck.etag())) {
+            return;
+        }
+        response.setContentType("application/gzip");
+        response.setHeader(
+                HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("topic-" + id + "-deck.json.gz").build().toString()
         );
+        FileResponses.send(request, response, deck.path(), deck.sizeBytes());
     }
 
-    private VocabularyResponse toVocabularyResponse(Vocabulary vocabulary) {
-        return new VocabularyResponse(
-                vocabulary.getId(),
-                vocabulary.getTerm(),
-                vocabulary.getDefinition(),
-                vocabulary.getExample(),
-                vocabulary.getPhonetic(),
-                vocabulary.getPartOfSpeech(),
-                vocabulary.getLanguage(),
-                vocabulary.getStatus(),
-                vocabulary.getCreatedBy(),
-                vocabulary.getCreatedAt()
-        );
+    /**
+     * Scroll approved vocabularies in a topic with a continuation cursor, newest first.
+     */
+    @Operation(
+            summary = "Scroll vocab in topic",
+            description = "Keyset-paginated topic vocabulary. Pass an empty cursor for the first page, then nextCursor."
+    )
+    @GetMapping(value = "/{id}/vocab", params = "cursor")
+    public CursorPage<VocabularyResponse> scrollTopicVocabulary(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) String language,
+            @RequestParam(required = false) VocabularyStatus status,
+            @RequestParam(required = false) VocabularySearchMode mode,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            ServletWebRequest request
+    ) {
+        if (topicNotModified(id, "topic-vocab", status, request)) {
+            return null;
+        }
+        return vocabularyService.scrollApproved(query, id, language, status, mode, cursor, size)
+                .map(VocabularyMapper::toResponse);
+    }
+
+    private static void writeCachedPage(TopicPageCache.CachedPage page, ServletWebRequest webRequest)
+            throws IOException {
+        HttpServletResponse response = webRequest.getResponse();
+        boolean gzip = ExportResponses.acceptsGzip(webRequest.getRequest());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        // Each encoding is a different representation, so it needs its own strong ETag.
+        if (ConditionalGets.notModified(webRequest, gzip ? "topics;gzip" : "topics", page.version())) {
+            return;
+        }
+        byte[] body = gzip ? page.gzip() : page.json();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Checks If-None-Match against the topic's catalog version without loading the topic.
+     * Only used for {@code status=APPROVED}: without a status the listing also returns
+     * PENDING rows, whose links do not move the catalog version. Skipped for missing topics,
+     * which fall through to the usual 404.
+     */
+    private boolean topicNotModified(UUID id, String resource, VocabularyStatus status, ServletWebRequest request) {
+        if (status != VocabularyStatus.APPROVED) {
+            return false;
+        }
+        return topicService.findActiveCatalogVersion(id)
+                .map(version -> ConditionalGets.notModified(request, resource + "/" + id, version))
+                .orElse(false);
     }
 }
@@ -0,0 +1,63 @@
+package com.learnapp.controller;
+
+import com.learnapp.dto.DailyStatsResponse;
+import com.learnapp.dto.StreakResponse;
+import com.learnapp.dto.UserStatsResponse;
+import com.learnapp.security.UserPrincipal;
+import com.learnapp.service.UserStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/me/stats")
+@Tag(name = "User Stats", description = "Personal learning statistics APIs")
+public class UserStatsController {
+
+    private final UserStatsService userStatsService;
+
+    public UserStatsController(UserStatsService userStatsService) {
+        this.userStatsService = userStatsService;
+    }
+
+    /**
+     * Learning-list totals per status for the current user.
+     */
+    @Operation(summary = "My stats", description = "Number of words in the learning list per status.")
+    @GetMapping
+    public UserStatsResponse summary(@AuthenticationPrincipal UserPrincipal principal) {
+        return userStatsService.summary(principal.id());
+    }
+
+    /**
+     * Daily goal progress and streak for the current user.
+     */
+    @Operation(
+            summary = "My streak",
+            description = "Today's reviews against the daily goal and the goal streak, in the user's time zone."
+    )
+    @GetMapping("/streak")
+    public StreakResponse streak(@AuthenticationPrincipal UserPrincipal principal) {
+        return userStatsService.streak(principal.id());
+    }
+
+    /**
+     * Daily review counters for the current user.
+     */
+    @Operation(summary = "Daily stats", description = "Reviews, newly learned and mastered words per day.")
+    @GetMapping("/daily")
+    public List<DailyStatsResponse> daily(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return userStatsService.daily(principal.id(), from, to);
+    }
+}
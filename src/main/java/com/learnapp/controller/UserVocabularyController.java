@@ -1,20 +1,24 @@
 package com.learnapp.controller;
 
 import com.learnapp.dto.AddUserVocabularyRequest;
+import com.learnapp.dto.BatchReviewRequest;
+import com.learnapp.dto.CursorPage;
+import com.learnapp.dto.ReviewItemResult;
 import com.learnapp.dto.UpdateUserVocabularyRequest;
 import com.learnapp.dto.UserVocabularyResponse;
 import com.learnapp.entities.UserVocabStatus;
-import com.learnapp.entities.UserVocabulary;
 import com.learnapp.security.UserPrincipal;
+import com.learnapp.service.UserVocabularyMapper;
 import com.learnapp.service.UserVocabularyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -42,12 +46,48 @@ public class UserVocabularyController {
      */
     @Operation(summary = "List my vocab", description = "List vocabularies in the user's learning list.")
     @GetMapping
-    public Page<UserVocabularyResponse> list(
+    public Slice<UserVocabularyResponse> list(
             @AuthenticationPrincipal UserPrincipal principal,
             @RequestParam(required = false) UserVocabStatus status,
+            @RequestParam(defaultValue = "true") boolean count,
             @ParameterObject Pageable pageable
     ) {
-        return userVocabularyService.list(principal.id(), status, pageable).map(this::toResponse);
+        if (!count) {
+            return userVocabularyService.listSlice(principal.id(), status, pageable)
+                    .map(UserVocabularyMapper::toResponse);
+        }
+        return userVocabularyService.list(principal.id(), status, pageable).map(UserVocabularyMapper::toResponse);
+    }
+
+    /**
+     * Scroll the current user's learning list with a continuation cursor, newest first.
+     */
+    @Operation(
+            summary = "Scroll my vocab",
+            description = "Keyset-paginated learning list. Pass an empty cursor for the first page, then nextCursor."
+    )
+    @GetMapping(params = "cursor")
+    public CursorPage<UserVocabularyResponse> scroll(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(required = false) UserVocabStatus status,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return userVocabularyService.scroll(principal.id(), status, cursor, size).map(UserVocabularyMapper::toResponse);
+    }
+
+    /**
+     * Next cards due for review in the current user's learning list.
+     */
+    @Operation(summary = "Due vocab", description = "Cards due for review now, most overdue first.")
+    @GetMapping("/due")
+    public List<UserVocabularyResponse> due(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return userVocabularyService.listDue(principal.id(), limit).stream()
+                .map(UserVocabularyMapper::toResponse)
+                .toList();
     }
 
     /**
@@ -59,7 +99,7 @@ public class UserVocabularyController {
             @AuthenticationPrincipal UserPrincipal principal,
             @Valid @RequestBody AddUserVocabularyRequest request
     ) {
-        return toResponse(userVocabularyService.add(principal.id(), request.vocabularyId()));
+        return UserVocabularyMapper.toResponse(userVocabularyService.add(principal.id(), request.vocabularyId()));
     }
 
     /**
@@ -72,15 +112,38 @@ public class UserVocabularyController {
             @PathVariable UUID vocabularyId,
             @Valid @RequestBody UpdateUserVocabularyRequest request
     ) {
-        return toResponse(userVocabularyService.update(
+        return UserVocabularyMapper.toResponse(userVocabularyService.update(
                 principal.id(),
                 vocabularyId,
                 request.status(),
                 request.progress(),
+                request.grade(),
                 LocalDateTime.now()
         ));
     }
 
+    /**
+     * Submit many review results from one study session.
+     */
+    @Operation(
+            summary = "Batch review my vocab",
+            description = "Apply up to 200 review results in one transaction, with a result per item."
+    )
+    @PostMapping("/reviews:batch")
+    public List<ReviewItemResult> reviewBatch(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @Valid @RequestBody BatchReviewRequest request
+    ) {
+        return userVocabularyService.reviewBatch(principal.id(), request.items(), LocalDateTime.now()).stream()
+                .map(outcome -> new ReviewItemResult(
+                        outcome.vocabularyId(),
+                        outcome.error() == null,
+                        outcome.error(),
+                        outcome.card() == null ? null : UserVocabularyMapper.toResponse(outcome.card())
+                ))
+                .toList();
+    }
+
     /**
      * Remove a vocabulary from the user's learning list.
      */
@@ -92,15 +155,4 @@ public class UserVocabularyController {
     ) {
         userVocabularyService.remove(principal.id(), vocabularyId);
     }
-
-    private UserVocabularyResponse toResponse(UserVocabulary userVocabulary) {
-        return new UserVocabularyResponse(
-                userVocabulary.getVocabularyId(),
-                userVocabulary.getStatus(),
-                userVocabulary.getProgress(),
-                userVocabulary.getLastReviewedAt(),
-                userVocabulary.getCreatedAt(),
-                userVocabulary.getUpdatedAt()
-        );
-    }
 }
@@ -1,18 +1,24 @@
 package com.learnapp.controller;
 
 import com.learnapp.dto.CreateVocabularyRequest;
+import com.learnapp.dto.CursorPage;
 import com.learnapp.dto.VocabularyResponse;
+import com.learnapp.dto.VocabularySearchMode;
 import com.learnapp.entities.Vocabulary;
 import com.learnapp.entities.VocabularyStatus;
 import com.learnapp.security.UserPrincipal;
+import com.learnapp.service.ApprovedVocabulary;
+import com.learnapp.service.VocabularyMapper;
 import com.learnapp.service.VocabularyService;
+import com.learnapp.service.VocabularySuggestionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.List;
 import java.util.UUID;
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -21,6 +27,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping("/vocab")
@@ -28,9 +35,14 @@ import org.springframework.web.bind.annotation.RestController;
 public class VocabularyController {
 
     private final VocabularyService vocabularyService;
+    private final VocabularySuggestionService suggestionService;
 
-    public VocabularyController(VocabularyService vocabularyService) {
+    public VocabularyController(
+            VocabularyService vocabularyService,
+            VocabularySuggestionService suggestionService
+    ) {
         this.vocabularyService = vocabularyService;
+        this.suggestionService = suggestionService;
     }
 
     /**
@@ -38,23 +50,69 @@ public class VocabularyController {
      */
     @Operation(summary = "Search vocab", description = "Search approved vocabularies by query, topic, or language.")
     @GetMapping
-    public Page<VocabularyResponse> search(
+    public Slice<VocabularyResponse> search(
             @RequestParam(required = false) String query,
             @RequestParam(required = false) UUID topicId,
             @RequestParam(required = false) String language,
             @RequestParam(required = false) VocabularyStatus status,
+            @RequestParam(required = false) VocabularySearchMode mode,
+            @RequestParam(defaultValue = "true") boolean count,
             @ParameterObject Pageable pageable
     ) {
-        return vocabularyService.searchApproved(query, topicId, language, status, pageable).map(this::toResponse);
+        if (!count) {
+            return vocabularyService.searchApprovedSlice(query, topicId, language, status, mode, pageable)
+                    .map(VocabularyMapper::toResponse);
+        }
+        return vocabularyService.searchApproved(query, topicId, language, status, mode, pageable)
+                .map(VocabularyMapper::toResponse);
+    }
+
+    /**
+     * Scroll approved vocabularies with a continuation cursor, newest first.
+     */
+    @Operation(
+            summary = "Scroll vocab",
+            description = "Keyset-paginated search. Pass an empty cursor for the first page, then nextCursor."
+    )
+    @GetMapping(params = "cursor")
+    public CursorPage<VocabularyResponse> scroll(
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) UUID topicId,
+            @RequestParam(required = false) String language,
+            @RequestParam(required = false) VocabularyStatus status,
+            @RequestParam(required = false) VocabularySearchMode mode,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return vocabularyService.scrollApproved(query, topicId, language, status, mode, cursor, size)
+                .map(VocabularyMapper::toResponse);
+    }
+
+    /**
+     * Suggest approved terms starting with a prefix. Served from memory.
+     */
+    @Operation(summary = "Suggest vocab", description = "Autocomplete approved terms by prefix and language.")
+    @GetMapping("/suggest")
+    public List<String> suggest(
+            @RequestParam String prefix,
+            @RequestParam(required = false) String language,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return suggestionService.suggest(prefix, language, limit);
     }
 
     /**
      * Get an approved vocabulary by id.
      */
-    @Operation(summary = "Get vocab", description = "Get a single approved vocabulary by id.")
+    @Operation(summary = "Get vocab", description = "Get a single approved vocabulary by id. Supports If-None-Match.")
     @GetMapping("/{id}")
-    public VocabularyResponse getById(@PathVariable UUID id) {
-        return toResponse(vocabularyService.getApproved(id));
+    public VocabularyResponse getById(@PathVariable UUID id, ServletWebRequest request) {
+        // Served from the approved-vocabulary cache, so a 304 costs neither a query nor serialization.
+        ApprovedVocabulary vocabulary = vocabularyService.getApproved(id);
+        if (ConditionalGets.notModified(request, "vocab/" + id, vocabulary.updatedAt())) {
+            return null;
+        }
+        return vocabulary.response();
     }
 
     /**
@@ -76,21 +134,6 @@ public class VocabularyController {
                 request.language(),
                 request.topicIds()
         );
-        return toResponse(vocabulary);
-    }
-
-    private VocabularyResponse toResponse(Vocabulary vocabulary) {
-        return new VocabularyResponse(
-                vocabulary.getId(),
-                vocabulary.getTerm(),
-                vocabulary.getDefinition(),
-                vocabulary.getExample(),
-                vocabulary.getPhonetic(),
-                vocabulary.getPartOfSpeech(),
-                vocabulary.getLanguage(),
-                vocabulary.getStatus(),
-                vocabulary.getCreatedBy(),
-                vocabulary.getCreatedAt()
-        );
+        return VocabularyMapper.toResponse(vocabulary);
     }
 }
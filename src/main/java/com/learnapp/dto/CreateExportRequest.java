@@ -0,0 +1,10 @@
+package com.learnapp.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.Map;
+
+public record CreateExportRequest(
+        @NotNull ExportType type,
+        FileFormat format,
+        Map<String, String> filters
+) {}
@@ -0,0 +1,15 @@
+package com.learnapp.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor,
+        boolean hasNext
+) {
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(items.stream().<R>map(mapper).toList(), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,10 @@
+package com.learnapp.dto;
+
+import java.time.LocalDate;
+
+public record DailyStatsResponse(
+        LocalDate date,
+        int reviews,
+        int newlyLearned,
+        int mastered
+) {}
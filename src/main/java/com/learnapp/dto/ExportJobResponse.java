@@ -0,0 +1,19 @@
+package com.learnapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ExportJobResponse(
+        UUID id,
+        ExportType type,
+        FileFormat format,
+        JobStatus status,
+        long rows,
+        Long sizeBytes,
+        String error,
+        UUID requestedBy,
+        LocalDateTime createdAt,
+        LocalDateTime completedAt
+) {}
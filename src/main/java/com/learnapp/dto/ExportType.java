@@ -0,0 +1,7 @@
+package com.learnapp.dto;
+
+public enum ExportType {
+    USERS,
+    TOPICS,
+    VOCABULARY
+}
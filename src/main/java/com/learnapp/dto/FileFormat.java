@@ -0,0 +1,6 @@
+package com.learnapp.dto;
+
+public enum FileFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,23 @@
+package com.learnapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.learnapp.entities.VocabularyStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ImportJobResponse(
+        UUID id,
+        FileFormat format,
+        VocabularyStatus vocabularyStatus,
+        JobStatus status,
+        long rows,
+        long inserted,
+        long duplicates,
+        long failed,
+        boolean hasErrorFile,
+        String error,
+        UUID requestedBy,
+        LocalDateTime createdAt,
+        LocalDateTime completedAt
+) {}
@@ -0,0 +1,8 @@
+package com.learnapp.dto;
+
+public enum JobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
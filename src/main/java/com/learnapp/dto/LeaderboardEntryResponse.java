@@ -0,0 +1,11 @@
+package com.learnapp.dto;
+
+import java.util.UUID;
+
+public record LeaderboardEntryResponse(
+        Integer rank,
+        UUID userId,
+        String displayName,
+        String avatarUrl,
+        long score
+) {}
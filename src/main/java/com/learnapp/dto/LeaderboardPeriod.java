@@ -0,0 +1,6 @@
+package com.learnapp.dto;
+
+public enum LeaderboardPeriod {
+    WEEKLY,
+    ALL_TIME
+}
@@ -0,0 +1,14 @@
+package com.learnapp.dto;
+
+import com.learnapp.entities.UserVocabStatus;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
+
+public record ReviewItemRequest(
+        @NotNull UUID vocabularyId,
+        UserVocabStatus status,
+        @Min(0) @Max(100) Integer progress,
+        @Min(0) @Max(5) Integer grade
+) {}
@@ -0,0 +1,12 @@
+package com.learnapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ReviewItemResult(
+        UUID vocabularyId,
+        boolean success,
+        String error,
+        UserVocabularyResponse item
+) {}
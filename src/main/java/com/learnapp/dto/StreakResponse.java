@@ -0,0 +1,12 @@
+package com.learnapp.dto;
+
+import java.time.LocalDate;
+
+public record StreakResponse(
+        LocalDate today,
+        int todayReviews,
+        int dailyGoal,
+        boolean goalMet,
+        int currentStreak,
+        int longestStreak
+) {}
@@ -0,0 +1,15 @@
+package com.learnapp.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record SyncResponse(
+        String token,
+        boolean hasMore,
+        List<UserVocabularyResponse> userVocabularies,
+        List<UUID> removedUserVocabularies,
+        List<SyncVocabularyResponse> vocabularies,
+        List<UUID> removedVocabularies,
+        List<TopicResponse> topics,
+        List<UUID> removedTopics
+) {}
@@ -0,0 +1,20 @@
+package com.learnapp.dto;
+
+import com.learnapp.entities.VocabularyStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record SyncVocabularyResponse(
+        UUID id,
+        String term,
+        String definition,
+        String example,
+        String phonetic,
+        String partOfSpeech,
+        String language,
+        VocabularyStatus status,
+        UUID createdBy,
+        LocalDateTime createdAt,
+        List<UUID> topicIds
+) {}
@@ -8,5 +8,6 @@ public record TopicResponse(
         String name,
         String slug,
         String description,
+        int vocabCount,
         LocalDateTime createdAt
 ) {}
@@ -6,5 +6,6 @@ import jakarta.validation.constraints.Min;
 
 public record UpdateUserVocabularyRequest(
         UserVocabStatus status,
-        @Min(0) @Max(100) Integer progress
+        @Min(0) @Max(100) Integer progress,
+        @Min(0) @Max(5) Integer grade
 ) {}
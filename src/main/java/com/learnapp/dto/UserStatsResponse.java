@@ -0,0 +1,8 @@
+package com.learnapp.dto;
+
+public record UserStatsResponse(
+        int total,
+        int newCount,
+        int learningCount,
+        int masteredCount
+) {}
@@ -9,6 +9,10 @@ public record UserVocabularyResponse(
         UserVocabStatus status,
         Integer progress,
         LocalDateTime lastReviewedAt,
+        Double easeFactor,
+        Integer intervalDays,
+        Integer repetitions,
+        LocalDateTime dueAt,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {}
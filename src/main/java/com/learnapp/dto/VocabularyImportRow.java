@@ -0,0 +1,14 @@
+package com.learnapp.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record VocabularyImportRow(
+        String term,
+        String definition,
+        String example,
+        String phonetic,
+        String partOfSpeech,
+        String language,
+        List<UUID> topicIds
+) {}
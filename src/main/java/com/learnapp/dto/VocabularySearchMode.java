@@ -0,0 +1,7 @@
+package com.learnapp.dto;
+
+public enum VocabularySearchMode {
+    PREFIX,
+    CONTAINS,
+    CONTAINS_SCAN
+}
@@ -29,7 +29,8 @@ import org.hibernate.type.SqlTypes;
         },
         indexes = {
             @Index(name = "idx_topics_status", columnList = "status"),
-            @Index(name = "idx_topics_deleted_at", columnList = "deleted_at")
+            @Index(name = "idx_topics_deleted_at", columnList = "deleted_at"),
+            @Index(name = "idx_topics_updated_at", columnList = "updated_at, id")
         }
 )
 @Getter
@@ -40,9 +41,9 @@ import org.hibernate.type.SqlTypes;
 public class Topic {
 
     @Id
-    @UuidGenerator
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "id", nullable = false, updatable = false, length = 36)
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id", nullable = false, updatable = false, length = 16)
     private UUID id;
 
     @Column(name = "name", nullable = false, length = 100)
@@ -59,6 +60,20 @@ public class Topic {
     @Builder.Default
     private TopicStatus status = TopicStatus.ACTIVE;
 
+    /**
+     * Only ever bumped by {@code TopicRepository.incrementCatalogVersion}; the entity never writes it.
+     */
+    @Column(name = "catalog_version", nullable = false, insertable = false, updatable = false)
+    private Long catalogVersion;
+
+    /**
+     * Approved, non-deleted vocabularies linked to this topic. Maintained by
+     * {@code TopicRepository.adjustVocabCount}; the entity never writes it.
+     */
+    @Builder.Default
+    @Column(name = "vocab_count", nullable = false, insertable = false, updatable = false)
+    private Integer vocabCount = 0;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -5,9 +5,13 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.IdClass;
 import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,6 +20,7 @@ import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(
@@ -31,19 +36,44 @@ import org.hibernate.type.SqlTypes;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class TopicVocabulary {
+public class TopicVocabulary implements Persistable<TopicVocabularyId> {
 
     @Id
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "topic_id", nullable = false, length = 36)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "topic_id", nullable = false, length = 16)
     private UUID topicId;
 
     @Id
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "vocabulary_id", nullable = false, length = 36)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "vocabulary_id", nullable = false, length = 16)
     private UUID vocabularyId;
 
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
+
+    /**
+     * Links are only ever inserted or deleted, never merged: without this, {@code saveAll}
+     * sees the assigned ids and runs a SELECT per link before inserting it.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
+
+    @Override
+    public TopicVocabularyId getId() {
+        return new TopicVocabularyId(topicId, vocabularyId);
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
 }
@@ -31,7 +31,8 @@ import org.hibernate.type.SqlTypes;
         },
         indexes = {
             @Index(name = "idx_users_status", columnList = "status"),
-            @Index(name = "idx_users_deleted_at", columnList = "deleted_at")
+            @Index(name = "idx_users_deleted_at", columnList = "deleted_at"),
+            @Index(name = "idx_users_created_at", columnList = "created_at, id")
         }
 )
 @Getter
@@ -42,9 +43,9 @@ import org.hibernate.type.SqlTypes;
 public class User {
 
     @Id
-    @UuidGenerator
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "id", nullable = false, updatable = false, length = 36)
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id", nullable = false, updatable = false, length = 16)
     private UUID id;
 
     @Column(name = "email", nullable = false, length = 255)
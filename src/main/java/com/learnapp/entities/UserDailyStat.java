@@ -0,0 +1,49 @@
+package com.learnapp.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Pre-aggregated review counters per user and day. Written only by the review event
+ * flush ({@code ReviewEventJdbcRepository}); read-only through JPA.
+ */
+@Entity
+@Table(name = "user_daily_stats")
+@IdClass(UserDailyStatId.class)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDailyStat {
+
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "user_id", nullable = false, length = 16)
+    private UUID userId;
+
+    @Id
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "reviews", nullable = false)
+    private Integer reviews;
+
+    @Column(name = "newly_learned", nullable = false)
+    private Integer newlyLearned;
+
+    @Column(name = "mastered", nullable = false)
+    private Integer mastered;
+}
@@ -0,0 +1,16 @@
+package com.learnapp.entities;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class UserDailyStatId implements Serializable {
+    private UUID userId;
+    private LocalDate statDate;
+}
@@ -0,0 +1,51 @@
+package com.learnapp.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Daily-goal streak and today's review count for one user, in the user's local dates.
+ */
+@Entity
+@Table(name = "user_streaks")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStreak {
+
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "user_id", nullable = false, length = 16)
+    private UUID userId;
+
+    @Column(name = "current_streak", nullable = false)
+    @Builder.Default
+    private Integer currentStreak = 0;
+
+    @Column(name = "longest_streak", nullable = false)
+    @Builder.Default
+    private Integer longestStreak = 0;
+
+    @Column(name = "last_goal_date")
+    private LocalDate lastGoalDate;
+
+    @Column(name = "activity_date")
+    private LocalDate activityDate;
+
+    @Column(name = "activity_reviews", nullable = false)
+    @Builder.Default
+    private Integer activityReviews = 0;
+}
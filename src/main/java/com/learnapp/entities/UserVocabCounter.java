@@ -0,0 +1,42 @@
+package com.learnapp.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Learning-list size per status for one user. Changed only through
+ * {@code UserVocabCounterRepository.adjust}, in the same transaction as the list rows.
+ */
+@Entity
+@Table(name = "user_vocab_counters")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserVocabCounter {
+
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "user_id", nullable = false, length = 16)
+    private UUID userId;
+
+    @Column(name = "new_count", nullable = false)
+    private Integer newCount;
+
+    @Column(name = "learning_count", nullable = false)
+    private Integer learningCount;
+
+    @Column(name = "mastered_count", nullable = false)
+    private Integer masteredCount;
+}
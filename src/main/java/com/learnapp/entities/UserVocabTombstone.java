@@ -0,0 +1,50 @@
+package com.learnapp.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Latest removal of a card from a user's learning list, kept for delta sync.
+ */
+@Entity
+@Table(
+        name = "user_vocab_tombstones",
+        indexes = {
+            @Index(name = "idx_user_vocab_tombstones_user_deleted", columnList = "user_id, deleted_at, vocabulary_id"),
+            @Index(name = "idx_user_vocab_tombstones_deleted", columnList = "deleted_at")
+        }
+)
+@IdClass(UserVocabTombstoneId.class)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserVocabTombstone {
+
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "user_id", nullable = false, length = 16)
+    private UUID userId;
+
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "vocabulary_id", nullable = false, length = 16)
+    private UUID vocabularyId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,15 @@
+package com.learnapp.entities;
+
+import java.io.Serializable;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class UserVocabTombstoneId implements Serializable {
+    private UUID userId;
+    private UUID vocabularyId;
+}
@@ -34,7 +34,10 @@ import org.hibernate.type.SqlTypes;
             @Index(name = "idx_user_vocab_user_id", columnList = "user_id"),
             @Index(name = "idx_user_vocab_vocab_id", columnList = "vocabulary_id"),
             @Index(name = "idx_user_vocab_status", columnList = "status"),
-            @Index(name = "idx_user_vocab_last_reviewed", columnList = "last_reviewed_at")
+            @Index(name = "idx_user_vocab_last_reviewed", columnList = "last_reviewed_at"),
+            @Index(name = "idx_user_vocab_user_created", columnList = "user_id, created_at, id"),
+            @Index(name = "idx_user_vocab_user_due", columnList = "user_id, due_at"),
+            @Index(name = "idx_user_vocab_user_updated", columnList = "user_id, updated_at, id")
         }
 )
 @Getter
@@ -45,17 +48,17 @@ import org.hibernate.type.SqlTypes;
 public class UserVocabulary {
 
     @Id
-    @UuidGenerator
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "id", nullable = false, updatable = false, length = 36)
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id", nullable = false, updatable = false, length = 16)
     private UUID id;
 
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "user_id", nullable = false, length = 36)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "user_id", nullable = false, length = 16)
     private UUID userId;
 
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "vocabulary_id", nullable = false, length = 36)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "vocabulary_id", nullable = false, length = 16)
     private UUID vocabularyId;
 
     @Enumerated(EnumType.STRING)
@@ -70,6 +73,21 @@ public class UserVocabulary {
     @Column(name = "last_reviewed_at")
     private LocalDateTime lastReviewedAt;
 
+    @Column(name = "ease_factor", nullable = false)
+    @Builder.Default
+    private Double easeFactor = 2.5;
+
+    @Column(name = "interval_days", nullable = false)
+    @Builder.Default
+    private Integer intervalDays = 0;
+
+    @Column(name = "repetitions", nullable = false)
+    @Builder.Default
+    private Integer repetitions = 0;
+
+    @Column(name = "due_at", nullable = false)
+    private LocalDateTime dueAt;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
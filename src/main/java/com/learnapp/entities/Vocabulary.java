@@ -34,7 +34,9 @@ import org.hibernate.type.SqlTypes;
             @Index(name = "idx_vocab_term", columnList = "term_normalized"),
             @Index(name = "idx_vocab_language", columnList = "language"),
             @Index(name = "idx_vocab_status", columnList = "status"),
-            @Index(name = "idx_vocab_deleted_at", columnList = "deleted_at")
+            @Index(name = "idx_vocab_deleted_at", columnList = "deleted_at"),
+            @Index(name = "idx_vocab_created_at", columnList = "created_at, id"),
+            @Index(name = "idx_vocab_updated_at", columnList = "updated_at, id")
         }
 )
 @Getter
@@ -45,9 +47,9 @@ import org.hibernate.type.SqlTypes;
 public class Vocabulary {
 
     @Id
-    @UuidGenerator
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "id", nullable = false, updatable = false, length = 36)
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id", nullable = false, updatable = false, length = 16)
     private UUID id;
 
     @Column(name = "term", nullable = false, length = 255)
@@ -76,8 +78,12 @@ public class Vocabulary {
     @Builder.Default
     private VocabularyStatus status = VocabularyStatus.PENDING;
 
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "created_by", length = 36)
+    // Set when the vocabulary is first approved and never cleared.
+    @Column(name = "approved_at")
+    private LocalDateTime approvedAt;
+
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "created_by", length = 16)
     private UUID createdBy;
 
     @CreationTimestamp
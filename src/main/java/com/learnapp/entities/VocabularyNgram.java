@@ -0,0 +1,70 @@
+package com.learnapp.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+@Entity
+@Table(
+        name = "vocabulary_ngrams",
+        indexes = {
+            @Index(name = "idx_vocab_ngrams_vocab_id", columnList = "vocabulary_id")
+        }
+)
+@IdClass(VocabularyNgramId.class)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VocabularyNgram implements Persistable<VocabularyNgramId> {
+
+    @Id
+    @Column(name = "gram", nullable = false, length = 3)
+    private String gram;
+
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "vocabulary_id", nullable = false, length = 16)
+    private UUID vocabularyId;
+
+    // Rows are only ever inserted, so report them as new and let saveAll persist
+    // (and batch) them instead of issuing a merge SELECT per gram.
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @Override
+    public VocabularyNgramId getId() {
+        return new VocabularyNgramId(gram, vocabularyId);
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
+}
@@ -0,0 +1,15 @@
+package com.learnapp.repository;
+
+/**
+ * JDBC fetch sizes for {@code HibernateHints.HINT_FETCH_SIZE} query hints.
+ */
+public final class FetchSizes {
+
+    /**
+     * MySQL Connector/J only streams result sets row by row with this fetch size.
+     */
+    public static final String STREAM = "-2147483648";
+
+    private FetchSizes() {
+    }
+}
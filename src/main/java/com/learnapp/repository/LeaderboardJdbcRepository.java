@@ -0,0 +1,125 @@
+package com.learnapp.repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.ObjLongConsumer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Checkpoint storage for the in-memory leaderboards.
+ */
+@Repository
+public class LeaderboardJdbcRepository {
+
+    private static final String SELECT_SCORES = """
+            SELECT s.user_id, s.score
+            FROM leaderboard_scores s
+            JOIN users u ON u.id = s.user_id
+            WHERE s.metric = ?
+              AND s.period_start = ?
+              AND u.deleted_at IS NULL
+            """;
+
+    private static final String SELECT_USER_SCORES = """
+            SELECT metric, period_start, score
+            FROM leaderboard_scores
+            WHERE user_id = ?
+              AND period_start IN (?, ?)
+            """;
+
+    private static final String ADD_SCORE = """
+            INSERT INTO leaderboard_scores (metric, period_start, user_id, score)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE score = score + VALUES(score)
+            """;
+
+    private static final String DELETE_WEEKS_BEFORE = """
+            DELETE FROM leaderboard_scores
+            WHERE metric = ?
+              AND period_start > ?
+              AND period_start < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LeaderboardJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Streams the checkpointed scores of live users for one board.
+     */
+    public void forEachScore(String metric, LocalDate periodStart, ObjLongConsumer<UUID> consumer) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            SELECT_SCORES,
+                            ResultSet.TYPE_FORWARD_ONLY,
+                            ResultSet.CONCUR_READ_ONLY
+                    );
+                    statement.setFetchSize(Integer.MIN_VALUE);
+                    statement.setString(1, metric);
+                    statement.setDate(2, Date.valueOf(periodStart));
+                    return statement;
+                },
+                resultSet -> {
+                    consumer.accept(UuidBytes.fromBytes(resultSet.getBytes(1)), resultSet.getLong(2));
+                }
+        );
+    }
+
+    /**
+     * Loads one user's checkpointed scores for the given periods.
+     */
+    public List<Score> findUserScores(UUID userId, LocalDate periodStart, LocalDate otherPeriodStart) {
+        return jdbcTemplate.query(
+                SELECT_USER_SCORES,
+                (resultSet, rowNum) -> new Score(
+                        resultSet.getString(1),
+                        resultSet.getDate(2).toLocalDate(),
+                        userId,
+                        resultSet.getLong(3)
+                ),
+                UuidBytes.toBytes(userId),
+                Date.valueOf(periodStart),
+                Date.valueOf(otherPeriodStart)
+        );
+    }
+
+    /**
+     * Adds each {@link Score#score()} as a delta to the stored score, creating missing rows.
+     * Several instances can checkpoint the same rows without overwriting each other.
+     */
+    public void addScores(Collection<Score> scores) {
+        List<Object[]> rows = new ArrayList<>(scores.size());
+        for (Score score : scores) {
+            rows.add(new Object[] {
+                score.metric(), Date.valueOf(score.periodStart()), UuidBytes.toBytes(score.userId()), score.score()
+            });
+        }
+        jdbcTemplate.batchUpdate(ADD_SCORE, rows, new int[] {Types.VARCHAR, Types.DATE, Types.BINARY, Types.BIGINT});
+    }
+
+    /**
+     * Drops weekly rows older than {@code periodStart}; all-time rows are kept.
+     */
+    public int deleteWeeksBefore(String metric, LocalDate allTimeStart, LocalDate periodStart) {
+        return jdbcTemplate.update(
+                DELETE_WEEKS_BEFORE,
+                metric,
+                Date.valueOf(allTimeStart),
+                Date.valueOf(periodStart)
+        );
+    }
+
+    public record Score(String metric, LocalDate periodStart, UUID userId, long score) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.learnapp.repository;
+
+import com.learnapp.entities.UserVocabStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One row of {@code review_events}: a single review applied to a learning-list card.
+ * {@code statDate} is the user's calendar day (in their time zone) the review counts
+ * towards, the same day the streak credits it to.
+ */
+public record ReviewEvent(
+        UUID userId,
+        UUID vocabularyId,
+        Integer grade,
+        UserVocabStatus statusBefore,
+        UserVocabStatus statusAfter,
+        int progress,
+        LocalDateTime reviewedAt,
+        LocalDate statDate
+) {
+
+    /**
+     * The card left {@code NEW} with this review.
+     */
+    public boolean newlyLearned() {
+        return statusBefore == UserVocabStatus.NEW && statusAfter != UserVocabStatus.NEW;
+    }
+
+    /**
+     * The card reached {@code MASTERED} with this review.
+     */
+    public boolean mastered() {
+        return statusBefore != UserVocabStatus.MASTERED && statusAfter == UserVocabStatus.MASTERED;
+    }
+}
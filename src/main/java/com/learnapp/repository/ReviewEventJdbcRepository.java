@@ -0,0 +1,88 @@
+package com.learnapp.repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Batched writes for the review log. Kept on plain JDBC so a flush is one multi-row
+ * insert per table instead of an entity per event.
+ */
+@Repository
+public class ReviewEventJdbcRepository {
+
+    private static final String INSERT_EVENT = """
+            INSERT INTO review_events
+                (user_id, vocabulary_id, grade, status_before, status_after, progress, reviewed_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPSERT_DAILY_STATS = """
+            INSERT INTO user_daily_stats (user_id, stat_date, reviews, newly_learned, mastered)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                reviews = reviews + VALUES(reviews),
+                newly_learned = newly_learned + VALUES(newly_learned),
+                mastered = mastered + VALUES(mastered)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReviewEventJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertEvents(Collection<ReviewEvent> events) {
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (ReviewEvent event : events) {
+            rows.add(new Object[] {
+                UuidBytes.toBytes(event.userId()),
+                UuidBytes.toBytes(event.vocabularyId()),
+                event.grade(),
+                event.statusBefore().name(),
+                event.statusAfter().name(),
+                event.progress(),
+                Timestamp.valueOf(event.reviewedAt())
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_EVENT, rows, new int[] {
+            Types.BINARY, Types.BINARY, Types.TINYINT, Types.VARCHAR, Types.VARCHAR, Types.INTEGER, Types.TIMESTAMP
+        });
+    }
+
+    /**
+     * Adds the events to {@code user_daily_stats}, one upsert per user and day of
+     * {@link ReviewEvent#statDate()}.
+     */
+    public void addDailyStats(Collection<ReviewEvent> events) {
+        Map<DayKey, int[]> totals = new LinkedHashMap<>();
+        for (ReviewEvent event : events) {
+            int[] counts = totals.computeIfAbsent(
+                    new DayKey(event.userId(), event.statDate()),
+                    key -> new int[3]
+            );
+            counts[0]++;
+            counts[1] += event.newlyLearned() ? 1 : 0;
+            counts[2] += event.mastered() ? 1 : 0;
+        }
+        List<Object[]> rows = new ArrayList<>(totals.size());
+        totals.forEach((key, counts) -> rows.add(new Object[] {
+            UuidBytes.toBytes(key.userId()), Date.valueOf(key.date()), counts[0], counts[1], counts[2]
+        }));
+        jdbcTemplate.batchUpdate(UPSERT_DAILY_STATS, rows, new int[] {
+            Types.BINARY, Types.DATE, Types.INTEGER, Types.INTEGER, Types.INTEGER
+        });
+    }
+
+    private record DayKey(UUID userId, LocalDate date) {
+    }
+}
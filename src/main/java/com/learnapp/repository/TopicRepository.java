@@ -2,37 +2,142 @@ package com.learnapp.repository;
 
 import com.learnapp.entities.Topic;
 import com.learnapp.entities.TopicStatus;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface TopicRepository extends JpaRepository<Topic, UUID> {
+    String SEARCH_TOPICS = """
+            select t
+            from Topic t
+            where t.deletedAt is null
+              and (:name is null or lower(t.name) like concat('%', :name, '%'))
+              and (:slug is null or lower(t.slug) like concat('%', :slug, '%'))
+              and (:status is null or t.status = :status)
+            """;
+
     Optional<Topic> findByIdAndDeletedAtIsNull(UUID id);
 
-    Optional<Topic> findBySlugAndDeletedAtIsNull(String slug);
+    List<Topic> findAllByIdInAndDeletedAtIsNull(Collection<UUID> ids);
 
     Page<Topic> findByStatusAndDeletedAtIsNull(TopicStatus status, Pageable pageable);
 
-    boolean existsBySlug(String slug);
+    /**
+     * Every slug equal to {@code base} or starting with {@code base-}, deleted topics included,
+     * read in one range scan of {@code uk_topics_slug}.
+     */
+    @Query("select t.slug from Topic t where t.slug = :base or t.slug like concat(:base, '-%')")
+    List<String> findSlugsWithBase(@Param("base") String base);
 
     boolean existsByNameIgnoreCase(String name);
 
-    @Query("""
-            select t
-            from Topic t
-            where t.deletedAt is null
-              and (:name is null or lower(t.name) like concat('%', :name, '%'))
-              and (:slug is null or lower(t.slug) like concat('%', :slug, '%'))
-              and (:status is null or t.status = :status)
-            """)
+    @Query(SEARCH_TOPICS)
     Page<Topic> searchTopics(
             @Param("name") String name,
             @Param("slug") String slug,
             @Param("status") TopicStatus status,
             Pageable pageable
     );
+
+    @Query(SEARCH_TOPICS)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FetchSizes.STREAM),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Topic> streamTopics(
+            @Param("name") String name,
+            @Param("slug") String slug,
+            @Param("status") TopicStatus status
+    );
+
+    /**
+     * Rows changed after the {@code (updatedAt, id)} position, deleted ones included, in change order.
+     */
+    @Query("""
+            select t
+            from Topic t
+            where t.updatedAt > :updatedAt or (t.updatedAt = :updatedAt and t.id > :id)
+            order by t.updatedAt, t.id
+            """)
+    List<Topic> findChangedSince(
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("id") UUID id,
+            Pageable pageable
+    );
+
+    /**
+     * Catalog version of an active topic; empty when it is missing, inactive or deleted.
+     */
+    @Query("""
+            select t.catalogVersion
+            from Topic t
+            where t.id = :id and t.status = :status and t.deletedAt is null
+            """)
+    Optional<Long> findCatalogVersion(@Param("id") UUID id, @Param("status") TopicStatus status);
+
+    /**
+     * Changes whenever any topic is created, updated or deleted: the topic count plus the
+     * sum of all catalog versions.
+     */
+    @Query("""
+            select concat(cast(count(t) as String), '-', cast(coalesce(sum(t.catalogVersion), 0) as String))
+            from Topic t
+            """)
+    String findCatalogListVersion();
+
+    /**
+     * Bumps the catalog version of the given topics. {@code updated_at} is assigned to itself
+     * so MySQL's ON UPDATE clause leaves it untouched.
+     */
+    @Modifying
+    @Query("""
+            update Topic t
+            set t.catalogVersion = t.catalogVersion + 1, t.updatedAt = t.updatedAt
+            where t.id in :ids
+            """)
+    int incrementCatalogVersion(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Adds {@code delta} to the vocabulary count of the given topics and bumps their catalog
+     * version. {@code updated_at} moves with the count, so delta sync resends the topics.
+     */
+    @Modifying
+    @Query("""
+            update Topic t
+            set t.vocabCount = t.vocabCount + :delta, t.catalogVersion = t.catalogVersion + 1
+            where t.id in :ids
+            """)
+    int adjustVocabCount(@Param("ids") Collection<UUID> ids, @Param("delta") int delta);
+
+    /**
+     * Recounts every topic's approved vocabularies and fixes the rows that drifted.
+     * Returns the number of topics repaired.
+     */
+    @Modifying
+    @Query(value = """
+            update topics t
+            left join (
+                select tv.topic_id, count(*) as vocab_count
+                from topic_vocabularies tv
+                join vocabularies v on v.id = tv.vocabulary_id
+                where v.status = 'APPROVED' and v.deleted_at is null
+                group by tv.topic_id
+            ) counted on counted.topic_id = t.id
+            set t.vocab_count = coalesce(counted.vocab_count, 0),
+                t.catalog_version = t.catalog_version + 1
+            where t.vocab_count <> coalesce(counted.vocab_count, 0)
+            """, nativeQuery = true)
+    int reconcileVocabCounts();
 }
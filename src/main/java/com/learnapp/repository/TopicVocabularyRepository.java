@@ -2,12 +2,20 @@ package com.learnapp.repository;
 
 import com.learnapp.entities.TopicVocabulary;
 import com.learnapp.entities.TopicVocabularyId;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TopicVocabularyRepository extends JpaRepository<TopicVocabulary, TopicVocabularyId> {
     boolean existsByTopicIdAndVocabularyId(UUID topicId, UUID vocabularyId);
 
     List<TopicVocabulary> findByTopicId(UUID topicId);
+
+    List<TopicVocabulary> findByVocabularyIdIn(Collection<UUID> vocabularyIds);
+
+    @Query("select tv.topicId from TopicVocabulary tv where tv.vocabularyId = :vocabularyId")
+    List<UUID> findTopicIdsByVocabularyId(@Param("vocabularyId") UUID vocabularyId);
 }
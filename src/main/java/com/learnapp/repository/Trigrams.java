@@ -0,0 +1,28 @@
+package com.learnapp.repository;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Splits normalized terms into the distinct three-code-point windows stored in
+ * {@code vocabulary_ngrams}.
+ */
+public final class Trigrams {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private Trigrams() {
+    }
+
+    public static Set<String> of(String value) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (value == null) {
+            return grams;
+        }
+        int[] codePoints = value.codePoints().toArray();
+        for (int i = 0; i + GRAM_LENGTH <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,12 @@
+package com.learnapp.repository;
+
+import com.learnapp.entities.UserDailyStat;
+import com.learnapp.entities.UserDailyStatId;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UserDailyStatRepository extends JpaRepository<UserDailyStat, UserDailyStatId> {
+    List<UserDailyStat> findByUserIdAndStatDateBetweenOrderByStatDateAsc(UUID userId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,35 @@
+package com.learnapp.repository;
+
+import com.learnapp.entities.UserStatus;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+public record UserLiveness(
+        UUID id,
+        LocalDateTime deletedAt,
+        UserStatus status,
+        String timeZone,
+        Integer dailyGoal
+) {
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+
+    /**
+     * The user's time zone, or UTC when unset or not a valid zone id.
+     */
+    public ZoneId zone() {
+        if (timeZone == null || timeZone.isBlank()) {
+            return ZoneOffset.UTC;
+        }
+        try {
+            return ZoneId.of(timeZone);
+        } catch (DateTimeException ex) {
+            return ZoneOffset.UTC;
+        }
+    }
+}
@@ -3,21 +3,79 @@ package com.learnapp.repository;
 import com.learnapp.entities.User;
 import com.learnapp.entities.UserRole;
 import com.learnapp.entities.UserStatus;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
+    String SEARCH_USERS = """
+            select u
+            from User u
+            where u.deletedAt is null
+              and (:email is null or lower(u.email) like concat('%', :email, '%'))
+              and (:username is null or lower(u.username) like concat('%', :username, '%'))
+              and (:displayName is null or lower(u.displayName) like concat('%', :displayName, '%'))
+              and (:role is null or u.role = :role)
+              and (:status is null or u.status = :status)
+            """;
+
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
 
     Page<User> findByDeletedAtIsNull(Pageable pageable);
 
+    @Query("""
+            select new com.learnapp.repository.UserLiveness(u.id, u.deletedAt, u.status, u.timeZone, u.dailyGoal)
+            from User u
+            where u.id = :id
+            """)
+    Optional<UserLiveness> findLivenessById(@Param("id") UUID id);
+
+    @Query(SEARCH_USERS)
+    Page<User> searchUsers(
+            @Param("email") String email,
+            @Param("username") String username,
+            @Param("displayName") String displayName,
+            @Param("role") UserRole role,
+            @Param("status") UserStatus status,
+            Pageable pageable
+    );
+
+    @Query(SEARCH_USERS)
+    Slice<User> sliceUsers(
+            @Param("email") String email,
+            @Param("username") String username,
+            @Param("displayName") String displayName,
+            @Param("role") UserRole role,
+            @Param("status") UserStatus status,
+            Pageable pageable
+    );
+
+    @Query(SEARCH_USERS)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FetchSizes.STREAM),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<User> streamUsers(
+            @Param("email") String email,
+            @Param("username") String username,
+            @Param("displayName") String displayName,
+            @Param("role") UserRole role,
+            @Param("status") UserStatus status
+    );
+
     @Query("""
             select u
             from User u
@@ -27,13 +85,19 @@ public interface UserRepository extends JpaRepository<User, UUID> {
               and (:displayName is null or lower(u.displayName) like concat('%', :displayName, '%'))
               and (:role is null or u.role = :role)
               and (:status is null or u.status = :status)
+              and (:cursorCreatedAt is null
+                   or u.createdAt < :cursorCreatedAt
+                   or (u.createdAt = :cursorCreatedAt and u.id < :cursorId))
+            order by u.createdAt desc, u.id desc
             """)
-    Page<User> searchUsers(
+    List<User> scrollUsers(
             @Param("email") String email,
             @Param("username") String username,
             @Param("displayName") String displayName,
             @Param("role") UserRole role,
             @Param("status") UserStatus status,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") UUID cursorId,
             Pageable pageable
     );
 }
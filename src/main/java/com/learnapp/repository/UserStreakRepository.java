@@ -0,0 +1,26 @@
+package com.learnapp.repository;
+
+import com.learnapp.entities.UserStreak;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserStreakRepository extends JpaRepository<UserStreak, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UserStreak s where s.userId = :userId")
+    Optional<UserStreak> findForUpdate(@Param("userId") UUID userId);
+
+    /**
+     * Creates an empty row for the user unless one exists. {@code userId} is the
+     * 16-byte form from {@link UuidBytes#toBytes(UUID)}.
+     */
+    @Modifying
+    @Query(value = "insert ignore into user_streaks (user_id) values (:userId)", nativeQuery = true)
+    void insertIfAbsent(@Param("userId") byte[] userId);
+}
@@ -0,0 +1,31 @@
+package com.learnapp.repository;
+
+import com.learnapp.entities.UserVocabCounter;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserVocabCounterRepository extends JpaRepository<UserVocabCounter, UUID> {
+
+    /**
+     * Adds the deltas to the user's counters in one atomic upsert. {@code userId} is the
+     * 16-byte form from {@link UuidBytes#toBytes(UUID)}.
+     */
+    @Modifying
+    @Query(value = """
+            insert into user_vocab_counters (user_id, new_count, learning_count, mastered_count)
+            values (:userId, :newDelta, :learningDelta, :masteredDelta)
+            on duplicate key update
+                new_count = new_count + values(new_count),
+                learning_count = learning_count + values(learning_count),
+                mastered_count = mastered_count + values(mastered_count)
+            """, nativeQuery = true)
+    void adjust(
+            @Param("userId") byte[] userId,
+            @Param("newDelta") int newDelta,
+            @Param("learningDelta") int learningDelta,
+            @Param("masteredDelta") int masteredDelta
+    );
+}
@@ -0,0 +1,58 @@
+package com.learnapp.repository;
+
+import com.learnapp.entities.UserVocabTombstone;
+import com.learnapp.entities.UserVocabTombstoneId;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserVocabTombstoneRepository extends JpaRepository<UserVocabTombstone, UserVocabTombstoneId> {
+
+    /**
+     * Records a removal, replacing an earlier one for the same card. Ids are the
+     * 16-byte form from {@link UuidBytes#toBytes(UUID)}.
+     */
+    @Modifying
+    @Query(value = """
+            insert into user_vocab_tombstones (user_id, vocabulary_id, deleted_at)
+            values (:userId, :vocabularyId, :deletedAt)
+            on duplicate key update deleted_at = values(deleted_at)
+            """, nativeQuery = true)
+    void upsert(
+            @Param("userId") byte[] userId,
+            @Param("vocabularyId") byte[] vocabularyId,
+            @Param("deletedAt") LocalDateTime deletedAt
+    );
+
+    /**
+     * Clears the removal of a card that is back on the learning list, so a full sync does
+     * not report it as both present and removed.
+     */
+    @Modifying
+    @Query("delete from UserVocabTombstone t where t.userId = :userId and t.vocabularyId = :vocabularyId")
+    int deleteByUserIdAndVocabularyId(@Param("userId") UUID userId, @Param("vocabularyId") UUID vocabularyId);
+
+    @Query("""
+            select t
+            from UserVocabTombstone t
+            where t.userId = :userId
+              and (t.deletedAt > :deletedAt
+                   or (t.deletedAt = :deletedAt and t.vocabularyId > :vocabularyId))
+            order by t.deletedAt, t.vocabularyId
+            """)
+    List<UserVocabTombstone> findChangedSince(
+            @Param("userId") UUID userId,
+            @Param("deletedAt") LocalDateTime deletedAt,
+            @Param("vocabularyId") UUID vocabularyId,
+            Pageable pageable
+    );
+
+    @Modifying
+    @Query("delete from UserVocabTombstone t where t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
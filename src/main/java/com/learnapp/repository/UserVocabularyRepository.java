@@ -2,22 +2,75 @@ package com.learnapp.repository;
 
 import com.learnapp.entities.UserVocabStatus;
 import com.learnapp.entities.UserVocabulary;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserVocabularyRepository extends JpaRepository<UserVocabulary, UUID> {
     Optional<UserVocabulary> findByUserIdAndVocabularyId(UUID userId, UUID vocabularyId);
 
     boolean existsByUserIdAndVocabularyId(UUID userId, UUID vocabularyId);
 
+    List<UserVocabulary> findByUserIdAndVocabularyIdIn(UUID userId, Collection<UUID> vocabularyIds);
+
     void deleteByUserIdAndVocabularyId(UUID userId, UUID vocabularyId);
 
     Page<UserVocabulary> findByUserId(UUID userId, Pageable pageable);
 
     Page<UserVocabulary> findByUserIdAndStatus(UUID userId, UserVocabStatus status, Pageable pageable);
 
+    Slice<UserVocabulary> findSliceByUserId(UUID userId, Pageable pageable);
+
+    Slice<UserVocabulary> findSliceByUserIdAndStatus(UUID userId, UserVocabStatus status, Pageable pageable);
+
     long countByUserIdAndStatus(UUID userId, UserVocabStatus status);
+
+    @Query("""
+            select uv
+            from UserVocabulary uv
+            where uv.userId = :userId
+              and uv.dueAt <= :now
+            order by uv.dueAt
+            """)
+    List<UserVocabulary> findDue(@Param("userId") UUID userId, @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("""
+            select uv
+            from UserVocabulary uv
+            where uv.userId = :userId
+              and (:status is null or uv.status = :status)
+              and (:cursorCreatedAt is null
+                   or uv.createdAt < :cursorCreatedAt
+                   or (uv.createdAt = :cursorCreatedAt and uv.id < :cursorId))
+            order by uv.createdAt desc, uv.id desc
+            """)
+    List<UserVocabulary> scrollByUser(
+            @Param("userId") UUID userId,
+            @Param("status") UserVocabStatus status,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") UUID cursorId,
+            Pageable pageable
+    );
+
+    @Query("""
+            select uv
+            from UserVocabulary uv
+            where uv.userId = :userId
+              and (uv.updatedAt > :updatedAt or (uv.updatedAt = :updatedAt and uv.id > :id))
+            order by uv.updatedAt, uv.id
+            """)
+    List<UserVocabulary> findChangedSince(
+            @Param("userId") UUID userId,
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("id") UUID id,
+            Pageable pageable
+    );
 }
@@ -0,0 +1,26 @@
+package com.learnapp.repository;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Binds UUIDs for plain JDBC statements the same way Hibernate maps them to
+ * {@code BINARY(16)}: most significant bits first.
+ */
+public final class UuidBytes {
+
+    private UuidBytes() {
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,39 @@
+package com.learnapp.repository;
+
+import com.learnapp.entities.VocabularyNgram;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Idempotent batch writes for {@code vocabulary_ngrams}, used where another writer may
+ * index the same vocabulary concurrently.
+ */
+@Repository
+public class VocabularyNgramJdbcRepository {
+
+    private static final String INSERT_IGNORE = """
+            INSERT IGNORE INTO vocabulary_ngrams (gram, vocabulary_id)
+            VALUES (?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public VocabularyNgramJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts the rows, skipping any that already exist instead of failing the batch.
+     */
+    public void insertIgnore(Collection<VocabularyNgram> ngrams) {
+        List<Object[]> rows = new ArrayList<>(ngrams.size());
+        for (VocabularyNgram ngram : ngrams) {
+            rows.add(new Object[] {ngram.getGram(), UuidBytes.toBytes(ngram.getVocabularyId())});
+        }
+        jdbcTemplate.batchUpdate(INSERT_IGNORE, rows, new int[] {Types.VARCHAR, Types.BINARY});
+    }
+}
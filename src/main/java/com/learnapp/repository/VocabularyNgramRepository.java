@@ -0,0 +1,20 @@
+package com.learnapp.repository;
+
+import com.learnapp.entities.VocabularyNgram;
+import com.learnapp.entities.VocabularyNgramId;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface VocabularyNgramRepository extends JpaRepository<VocabularyNgram, VocabularyNgramId> {
+
+    @Query("""
+            select distinct g.vocabularyId
+            from VocabularyNgram g
+            where g.vocabularyId in :vocabularyIds
+            """)
+    List<UUID> findIndexedVocabularyIds(@Param("vocabularyIds") Collection<UUID> vocabularyIds);
+}
@@ -2,71 +2,107 @@ package com.learnapp.repository;
 
 import com.learnapp.entities.Vocabulary;
 import com.learnapp.entities.VocabularyStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import org.springframework.data.domain.Page;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-public interface    VocabularyRepository extends JpaRepository<Vocabulary, UUID> {
+public interface VocabularyRepository extends JpaRepository<Vocabulary, UUID>, JpaSpecificationExecutor<Vocabulary> {
     Optional<Vocabulary> findByIdAndDeletedAtIsNull(UUID id);
 
+    /**
+     * Loads a live vocabulary and holds a row lock until commit, so concurrent status changes
+     * see each other's result.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select v from Vocabulary v where v.id = :id and v.deletedAt is null")
+    Optional<Vocabulary> findForUpdate(@Param("id") UUID id);
+
     Optional<Vocabulary> findByIdAndStatusAndDeletedAtIsNull(UUID id, VocabularyStatus status);
 
     Optional<Vocabulary> findByTermNormalizedAndLanguageAndDeletedAtIsNull(String termNormalized, String language);
 
     boolean existsByTermNormalizedAndLanguage(String termNormalized, String language);
 
-    Page<Vocabulary> findByStatusAndDeletedAtIsNull(VocabularyStatus status, Pageable pageable);
-
-    Page<Vocabulary> findByStatusAndDeletedAtIsNullAndLanguage(
-            VocabularyStatus status,
-            String language,
-            Pageable pageable
-    );
-
-    Page<Vocabulary> findByStatusAndDeletedAtIsNullAndTermNormalizedContainingIgnoreCase(
-            VocabularyStatus status,
-            String termNormalized,
-            Pageable pageable
-    );
-
-    Page<Vocabulary> findByStatusAndDeletedAtIsNullAndLanguageAndTermNormalizedContainingIgnoreCase(
-            VocabularyStatus status,
-            String language,
-            String termNormalized,
-            Pageable pageable
-    );
-
-    Page<Vocabulary> findByDeletedAtIsNull(Pageable pageable);
+    @Query("""
+            select new com.learnapp.repository.VocabularyTerm(v.language, v.termNormalized)
+            from Vocabulary v
+            where v.status = :status
+              and v.deletedAt is null
+            """)
+    List<VocabularyTerm> findTermsByStatus(@Param("status") VocabularyStatus status);
 
-    Page<Vocabulary> findByDeletedAtIsNullAndLanguage(String language, Pageable pageable);
+    @Query("""
+            select new com.learnapp.repository.VocabularyTerm(v.language, v.termNormalized)
+            from Vocabulary v
+            where v.termNormalized in :terms
+            """)
+    List<VocabularyTerm> findTermsByTermNormalizedIn(@Param("terms") Collection<String> terms);
 
-    Page<Vocabulary> findByDeletedAtIsNullAndTermNormalizedContainingIgnoreCase(String termNormalized, Pageable pageable);
+    @Query("""
+            select v
+            from Vocabulary v
+            where (:afterId is null or v.id > :afterId)
+              and v.deletedAt is null
+            order by v.id
+            """)
+    List<Vocabulary> findBatchAfter(@Param("afterId") UUID afterId, Pageable pageable);
 
-    Page<Vocabulary> findByDeletedAtIsNullAndLanguageAndTermNormalizedContainingIgnoreCase(
-            String language,
-            String termNormalized,
-            Pageable pageable
+    @Query("""
+            select v
+            from Vocabulary v
+            where v.deletedAt is null
+              and (:language is null or v.language = :language)
+              and (:status is null or v.status = :status)
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FetchSizes.STREAM),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Vocabulary> streamVocabularies(
+            @Param("language") String language,
+            @Param("status") VocabularyStatus status
     );
 
     @Query("""
             select v
-            from Vocabulary v
-            join TopicVocabulary tv on tv.vocabularyId = v.id
+            from Vocabulary v, TopicVocabulary tv
             where tv.topicId = :topicId
-              and (:status is null or v.status = :status)
+              and tv.vocabularyId = v.id
+              and v.status = :status
               and v.deletedAt is null
-              and (:language is null or v.language = :language)
-              and (:termNormalized is null or v.termNormalized like concat('%', :termNormalized, '%'))
+            order by v.termNormalized, v.id
             """)
-    Page<Vocabulary> searchByTopic(
-            @Param("topicId") UUID topicId,
-            @Param("status") VocabularyStatus status,
-            @Param("language") String language,
-            @Param("termNormalized") String termNormalized,
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FetchSizes.STREAM),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Vocabulary> streamByTopic(@Param("topicId") UUID topicId, @Param("status") VocabularyStatus status);
+
+    /**
+     * Rows changed after the {@code (updatedAt, id)} position, deleted ones included, in change order.
+     */
+    @Query("""
+            select v
+            from Vocabulary v
+            where v.updatedAt > :updatedAt or (v.updatedAt = :updatedAt and v.id > :id)
+            order by v.updatedAt, v.id
+            """)
+    List<Vocabulary> findChangedSince(
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("id") UUID id,
             Pageable pageable
     );
 }
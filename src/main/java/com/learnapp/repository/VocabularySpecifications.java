@@ -0,0 +1,129 @@
+package com.learnapp.repository;
+
+import com.learnapp.entities.TopicVocabulary;
+import com.learnapp.entities.Vocabulary;
+import com.learnapp.entities.VocabularyNgram;
+import com.learnapp.entities.VocabularyStatus;
+import jakarta.persistence.criteria.Subquery;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Composable predicates for vocabulary search. A {@code null} argument yields an
+ * unrestricted specification so callers only emit the filters actually supplied.
+ */
+public final class VocabularySpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private VocabularySpecifications() {
+    }
+
+    public static Specification<Vocabulary> notDeleted() {
+        return (root, query, cb) -> cb.isNull(root.get("deletedAt"));
+    }
+
+    public static Specification<Vocabulary> hasStatus(VocabularyStatus status) {
+        if (status == null) {
+            return Specification.unrestricted();
+        }
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Vocabulary> hasLanguage(String language) {
+        if (language == null) {
+            return Specification.unrestricted();
+        }
+        return (root, query, cb) -> cb.equal(root.get("language"), language);
+    }
+
+    public static Specification<Vocabulary> inTopic(UUID topicId) {
+        if (topicId == null) {
+            return Specification.unrestricted();
+        }
+        return (root, query, cb) -> {
+            Subquery<UUID> links = query.subquery(UUID.class);
+            var link = links.from(TopicVocabulary.class);
+            links.select(link.get("vocabularyId"))
+                    .where(cb.equal(link.get("topicId"), topicId));
+            return root.get("id").in(links);
+        };
+    }
+
+    /**
+     * Keyset predicate for listings ordered by {@code (created_at DESC, id DESC)}:
+     * rows strictly after the given position.
+     */
+    public static Specification<Vocabulary> createdBefore(LocalDateTime createdAt, UUID id) {
+        if (createdAt == null || id == null) {
+            return Specification.unrestricted();
+        }
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), createdAt),
+                cb.and(
+                        cb.equal(root.get("createdAt"), createdAt),
+                        cb.lessThan(root.<UUID>get("id"), id)
+                )
+        );
+    }
+
+    /**
+     * Matches {@code term_normalized LIKE 'prefix%'}, which MySQL resolves as a range
+     * scan on {@code idx_vocab_term}.
+     */
+    public static Specification<Vocabulary> termStartsWith(String prefix) {
+        if (prefix == null) {
+            return Specification.unrestricted();
+        }
+        return (root, query, cb) -> cb.like(root.get("termNormalized"), escapeLike(prefix) + "%", LIKE_ESCAPE);
+    }
+
+    /**
+     * Matches {@code term_normalized LIKE '%value%'}. This cannot use an index and
+     * scans every candidate row.
+     */
+    public static Specification<Vocabulary> termContains(String value) {
+        if (value == null) {
+            return Specification.unrestricted();
+        }
+        return (root, query, cb) -> cb.like(
+                root.get("termNormalized"),
+                "%" + escapeLike(value) + "%",
+                LIKE_ESCAPE
+        );
+    }
+
+    /**
+     * Substring match resolved through {@code vocabulary_ngrams}: candidates must hold
+     * every trigram of the value, and the LIKE re-check drops false positives.
+     * Values shorter than a trigram fall back to {@link #termContains(String)}.
+     */
+    public static Specification<Vocabulary> termContainsIndexed(String value) {
+        if (value == null) {
+            return Specification.unrestricted();
+        }
+        Set<String> grams = Trigrams.of(value);
+        if (grams.isEmpty()) {
+            return termContains(value);
+        }
+        Specification<Vocabulary> candidates = (root, query, cb) -> {
+            Subquery<UUID> postings = query.subquery(UUID.class);
+            var ngram = postings.from(VocabularyNgram.class);
+            postings.select(ngram.get("vocabularyId"))
+                    .where(ngram.get("gram").in(grams))
+                    .groupBy(ngram.get("vocabularyId"))
+                    .having(cb.equal(cb.countDistinct(ngram.get("gram")), (long) grams.size()));
+            return root.get("id").in(postings);
+        };
+        return candidates.and(termContains(value));
+    }
+
+    static String escapeLike(String value) {
+        return value
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,3 @@
+package com.learnapp.repository;
+
+public record VocabularyTerm(String language, String termNormalized) {}
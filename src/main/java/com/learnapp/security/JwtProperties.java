@@ -7,6 +7,7 @@ public class JwtProperties {
 
     private String secret;
     private long expirationSeconds;
+    private long cacheMaximumSize = 10_000;
 
     public String getSecret() {
         return secret;
@@ -23,4 +24,12 @@ public class JwtProperties {
     public void setExpirationSeconds(long expirationSeconds) {
         this.expirationSeconds = expirationSeconds;
     }
+
+    public long getCacheMaximumSize() {
+        return cacheMaximumSize;
+    }
+
+    public void setCacheMaximumSize(long cacheMaximumSize) {
+        this.cacheMaximumSize = cacheMaximumSize;
+    }
 }
@@ -1,15 +1,21 @@
 package com.learnapp.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.learnapp.entities.User;
 import com.learnapp.entities.UserRole;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 import javax.crypto.SecretKey;
 import org.springframework.stereotype.Service;
@@ -19,6 +25,9 @@ public class JwtService {
 
     private final JwtProperties properties;
     private final SecretKey secretKey;
+    private final JwtParser parser;
+    // Tokens whose signature has already been verified, kept until their own exp.
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     public JwtService(JwtProperties properties) {
         this.properties = properties;
@@ -27,6 +36,15 @@ public class JwtService {
             throw new IllegalStateException("JWT secret must be at least 32 bytes");
         }
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaximumSize())
+                .expireAfter(Expiry.<String, VerifiedToken>creating(
+                        (token, verified) -> verified.remainingLifetime(Instant.now())
+                ))
+                .build();
     }
 
     public String generateToken(User user) {
@@ -43,28 +61,55 @@ public class JwtService {
                 .compact();
     }
 
-    public boolean isTokenValid(String token) {
+    /**
+     * Verifies the token and extracts its principal in one pass. Repeat calls with a
+     * token that already verified skip parsing and signature checks until it expires.
+     * Returns empty for any invalid or expired token.
+     */
+    public Optional<UserPrincipal> authenticate(String token) {
+        Instant now = Instant.now();
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            if (cached.expiresAt().isAfter(now)) {
+                return Optional.of(cached.principal());
+            }
+            verifiedTokens.invalidate(token);
+            return Optional.empty();
+        }
+
+        Claims claims;
+        UserPrincipal principal;
         try {
-            parseToken(token);
-            return true;
-        } catch (Exception ex) {
-            return false;
+            claims = parser.parseClaimsJws(token).getBody();
+            principal = toPrincipal(claims);
+        } catch (JwtException | IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(token, new VerifiedToken(principal, claims.getExpiration().toInstant()));
         }
+        return Optional.of(principal);
     }
 
-    public UserPrincipal parsePrincipal(String token) {
-        Claims claims = parseToken(token).getBody();
-        UUID userId = UUID.fromString(claims.getSubject());
+    private UserPrincipal toPrincipal(Claims claims) {
+        UUID userId = UUID.fromString(requireClaim(claims.getSubject(), "sub"));
         String email = claims.get("email", String.class);
-        String roleValue = claims.get("role", String.class);
-        UserRole role = UserRole.valueOf(roleValue);
+        UserRole role = UserRole.valueOf(requireClaim(claims.get("role", String.class), "role"));
         return new UserPrincipal(userId, email, role);
     }
 
-    private Jws<Claims> parseToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token);
+    private static String requireClaim(String value, String name) {
+        if (value == null) {
+            throw new IllegalArgumentException("Token has no " + name + " claim");
+        }
+        return value;
+    }
+
+    private record VerifiedToken(UserPrincipal principal, Instant expiresAt) {
+
+        Duration remainingLifetime(Instant now) {
+            Duration remaining = Duration.between(now, expiresAt);
+            return remaining.isNegative() ? Duration.ZERO : remaining;
+        }
     }
 }
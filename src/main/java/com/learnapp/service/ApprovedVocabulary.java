@@ -0,0 +1,21 @@
+package com.learnapp.service;
+
+import com.learnapp.dto.VocabularyResponse;
+import com.learnapp.entities.Vocabulary;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of an approved vocabulary as held by {@link ApprovedVocabularyCache}:
+ * the API view plus the {@code updatedAt} used as its ETag version.
+ */
+public record ApprovedVocabulary(VocabularyResponse response, LocalDateTime updatedAt) {
+
+    static ApprovedVocabulary of(Vocabulary vocabulary) {
+        return new ApprovedVocabulary(VocabularyMapper.toResponse(vocabulary), vocabulary.getUpdatedAt());
+    }
+
+    public UUID id() {
+        return response.id();
+    }
+}
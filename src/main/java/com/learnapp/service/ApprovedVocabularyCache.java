@@ -0,0 +1,60 @@
+package com.learnapp.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.learnapp.entities.VocabularyStatus;
+import com.learnapp.repository.VocabularyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Read-through cache of APPROVED, non-deleted vocabularies by id. Unknown ids are
+ * cached as empty entries with a shorter TTL so repeated misses stay off the database.
+ * Misses load in their own read-only transaction, never the caller's, and the cache holds
+ * immutable {@link ApprovedVocabulary} records rather than JPA entities.
+ */
+@Component
+public class ApprovedVocabularyCache {
+
+    private final LoadingCache<UUID, Optional<ApprovedVocabulary>> cache;
+
+    public ApprovedVocabularyCache(
+            VocabularyRepository vocabularyRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.vocab.cache.ttl:10m}") Duration ttl,
+            @Value("${app.vocab.cache.negative-ttl:30s}") Duration negativeTtl,
+            @Value("${app.vocab.cache.max-size:50000}") long maximumSize
+    ) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        readOnly.setReadOnly(true);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.<UUID, Optional<ApprovedVocabulary>>writing(
+                        (id, vocabulary) -> vocabulary.isPresent() ? ttl : negativeTtl
+                ))
+                .recordStats()
+                .build(id -> readOnly.execute(status -> vocabularyRepository
+                        .findByIdAndStatusAndDeletedAtIsNull(id, VocabularyStatus.APPROVED)
+                        .map(ApprovedVocabulary::of)));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "vocab.approved");
+    }
+
+    public Optional<ApprovedVocabulary> get(UUID id) {
+        return cache.get(id);
+    }
+
+    public void invalidate(UUID id) {
+        cache.invalidate(id);
+    }
+}
@@ -0,0 +1,62 @@
+package com.learnapp.service;
+
+import com.learnapp.dto.TopicResponse;
+import com.learnapp.dto.UserResponse;
+import com.learnapp.dto.VocabularyResponse;
+
+/**
+ * Column layout of the admin CSV exports, shared by every export path.
+ */
+public final class CsvExports {
+
+    public static final String[] USER_COLUMNS = {
+            "id", "email", "username", "displayName", "role", "status", "locale", "timeZone",
+            "dailyGoal", "lastLoginAt", "createdAt", "updatedAt"
+    };
+
+    public static final String[] TOPIC_COLUMNS = {"id", "name", "slug", "description", "createdAt"};
+
+    public static final String[] VOCABULARY_COLUMNS = {
+            "id", "term", "definition", "example", "phonetic", "partOfSpeech", "language", "status",
+            "createdBy", "createdAt"
+    };
+
+    private CsvExports() {
+    }
+
+    public static void writeUser(CsvWriter csv, UserResponse user) {
+        csv.row(
+                user.id(),
+                user.email(),
+                user.username(),
+                user.displayName(),
+                user.role(),
+                user.status(),
+                user.locale(),
+                user.timeZone(),
+                user.dailyGoal(),
+                user.lastLoginAt(),
+                user.createdAt(),
+                user.updatedAt()
+        );
+    }
+
+    public static void writeTopic(CsvWriter csv, TopicResponse topic) {
+        csv.row(topic.id(), topic.name(), topic.slug(), topic.description(), topic.createdAt());
+    }
+
+    public static void writeVocabulary(CsvWriter csv, VocabularyResponse vocabulary) {
+        csv.row(
+                vocabulary.id(),
+                vocabulary.term(),
+                vocabulary.definition(),
+                vocabulary.example(),
+                vocabulary.phonetic(),
+                vocabulary.partOfSpeech(),
+                vocabulary.language(),
+                vocabulary.status(),
+                vocabulary.createdBy(),
+                vocabulary.createdAt()
+        );
+    }
+}
@@ -0,0 +1,108 @@
+package com.learnapp.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 reader: quoted fields may contain commas, doubled quotes and line
+ * breaks. Reads one record at a time, so memory does not grow with the input size.
+ */
+public final class CsvReader implements Closeable {
+
+    private final Reader reader;
+    private int lineNumber = 1;
+    private int recordLine;
+    private int pending = -2;
+
+    public CsvReader(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), 65536);
+    }
+
+    /**
+     * Returns the next record, or {@code null} at end of input. A leading UTF-8 BOM
+     * is skipped.
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        if (c == '\uFEFF' && lineNumber == 1 && recordLine == 0) {
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+        recordLine = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field starting on line " + recordLine);
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        pending = following;
+                    }
+                }
+                if (c != -1) {
+                    lineNumber++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Line on which the last record returned by {@link #next()} started (1-based).
+     */
+    public int recordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        return reader.read();
+    }
+}
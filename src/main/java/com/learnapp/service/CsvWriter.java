@@ -0,0 +1,82 @@
+package com.learnapp.service;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Minimal row-at-a-time CSV writer. Rows go through a small buffer straight to the
+ * underlying stream, so memory does not grow with the number of rows written.
+ */
+public final class CsvWriter implements Closeable {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final Writer writer;
+
+    public CsvWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes the UTF-8 BOM (for Excel compatibility) followed by the header row.
+     */
+    public CsvWriter header(String... columns) {
+        write("\uFEFF");
+        return row((Object[]) columns);
+    }
+
+    public CsvWriter row(Object... values) {
+        StringBuilder line = new StringBuilder(128);
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(escape(format(values[i])));
+        }
+        line.append('\n');
+        write(line.toString());
+        return this;
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void write(String value) {
+        try {
+            writer.write(value);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String format(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return DATE_FORMAT.format(dateTime);
+        }
+        return value.toString();
+    }
+
+    static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
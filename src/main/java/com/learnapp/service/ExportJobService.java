@@ -0,0 +1,297 @@
+package com.learnapp.service;
+
+import com.learnapp.dto.CreateExportRequest;
+import com.learnapp.dto.ExportJobResponse;
+import com.learnapp.dto.ExportType;
+import com.learnapp.dto.FileFormat;
+import com.learnapp.dto.JobStatus;
+import com.learnapp.entities.TopicStatus;
+import com.learnapp.entities.UserRole;
+import com.learnapp.entities.UserStatus;
+import com.learnapp.entities.VocabularyStatus;
+import com.learnapp.error.AppException;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Runs admin exports in the background on a small bounded pool. Each job streams its
+ * rows into a gzip-compressed CSV or NDJSON file under the spool directory, then
+ * publishes the file for download. Jobs live in memory; finished jobs and their files
+ * are dropped after the retention period.
+ */
+@Service
+public class ExportJobService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportJobService.class);
+
+    private final UserService userService;
+    private final TopicService topicService;
+    private final VocabularyService vocabularyService;
+    private final JsonMapper jsonMapper;
+    private final Path spoolDir;
+    private final Duration retention;
+    private final ThreadPoolTaskExecutor executor;
+    private final Map<UUID, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    public ExportJobService(
+            UserService userService,
+            TopicService topicService,
+            VocabularyService vocabularyService,
+            JsonMapper jsonMapper,
+            @Value("${app.exports.spool-dir:${java.io.tmpdir}/learning-app-exports}") String spoolDir,
+            @Value("${app.exports.retention:24h}") Duration retention,
+            @Value("${app.exports.workers:2}") int workers,
+            @Value("${app.exports.queue-capacity:20}") int queueCapacity
+    ) {
+        this.userService = userService;
+        this.topicService = topicService;
+        this.vocabularyService = vocabularyService;
+        this.jsonMapper = jsonMapper;
+        this.spoolDir = Path.of(spoolDir);
+        this.retention = retention;
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(workers);
+        this.executor.setMaxPoolSize(workers);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("export-");
+        this.executor.initialize();
+    }
+
+    public ExportJobResponse create(UUID requestedBy, CreateExportRequest request) {
+        FileFormat format = request.format() == null ? FileFormat.CSV : request.format();
+        Map<String, String> filters = request.filters() == null ? Map.of() : request.filters();
+        ExportPlan<?> plan = plan(request.type(), filters);
+
+        ExportJob job = new ExportJob(UUID.randomUUID(), request.type(), format, requestedBy);
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job, plan));
+        } catch (TaskRejectedException ex) {
+            jobs.remove(job.id);
+            throw new AppException(HttpStatus.SERVICE_UNAVAILABLE, "EXPORT_QUEUE_FULL", "Too many exports queued");
+        }
+        return job.toResponse();
+    }
+
+    public ExportJobResponse get(UUID id) {
+        return find(id).toResponse();
+    }
+
+    /**
+     * Returns the finished file of a completed job.
+     */
+    public ExportFile download(UUID id) {
+        ExportJob job = find(id);
+        if (job.status != JobStatus.COMPLETED) {
+            throw new AppException(HttpStatus.CONFLICT, "EXPORT_NOT_READY", "Export is not completed");
+        }
+        return new ExportFile(job.file, job.fileName());
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private ExportJob find(UUID id) {
+        ExportJob job = jobs.get(id);
+        if (job == null) {
+            throw new AppException(HttpStatus.NOT_FOUND, "EXPORT_NOT_FOUND", "Export not found");
+        }
+        return job;
+    }
+
+    private ExportPlan<?> plan(ExportType type, Map<String, String> filters) {
+        return switch (type) {
+            case USERS -> {
+                UserRole role = enumFilter(filters, "role", UserRole.class);
+                UserStatus status = enumFilter(filters, "status", UserStatus.class);
+                yield new ExportPlan<>(
+                        CsvExports.USER_COLUMNS,
+                        CsvExports::writeUser,
+                        sink -> userService.exportUsers(
+                                filters.get("email"),
+                                filters.get("username"),
+                                filters.get("displayName"),
+                                role,
+                                status,
+                                sink
+                        )
+                );
+            }
+            case TOPICS -> {
+                TopicStatus status = enumFilter(filters, "status", TopicStatus.class);
+                yield new ExportPlan<>(
+                        CsvExports.TOPIC_COLUMNS,
+                        CsvExports::writeTopic,
+                        sink -> topicService.exportTopics(filters.get("name"), filters.get("slug"), status, sink)
+                );
+            }
+            case VOCABULARY -> {
+                VocabularyStatus status = enumFilter(filters, "status", VocabularyStatus.class);
+                yield new ExportPlan<>(
+                        CsvExports.VOCABULARY_COLUMNS,
+                        CsvExports::writeVocabulary,
+                        sink -> vocabularyService.exportVocabularies(filters.get("language"), status, sink)
+                );
+            }
+        };
+    }
+
+    private <T> void run(ExportJob job, ExportPlan<T> plan) {
+        job.status = JobStatus.RUNNING;
+        Path part = spoolDir.resolve(job.id + ".part");
+        try {
+            Files.createDirectories(spoolDir);
+            try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(part)), 8192)) {
+                if (job.format == FileFormat.CSV) {
+                    writeCsv(out, plan, job);
+                } else {
+                    writeNdjson(out, plan, job);
+                }
+            }
+            Path target = spoolDir.resolve(job.fileName());
+            Files.move(part, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            job.file = target;
+            job.sizeBytes = Files.size(target);
+            job.completedAt = LocalDateTime.now();
+            job.status = JobStatus.COMPLETED;
+        } catch (IOException | RuntimeException ex) {
+            logger.error("Export {} ({}) failed", job.id, job.type, ex);
+            SpoolFiles.deleteQuietly(part);
+            job.error = "Export failed";
+            job.completedAt = LocalDateTime.now();
+            job.status = JobStatus.FAILED;
+        }
+    }
+
+    private <T> void writeCsv(OutputStream out, ExportPlan<T> plan, ExportJob job) throws IOException {
+        try (CsvWriter csv = new CsvWriter(out)) {
+            csv.header(plan.columns());
+            plan.source().accept(row -> {
+                plan.csvRow().accept(csv, row);
+                job.rows++;
+            });
+        }
+    }
+
+    private <T> void writeNdjson(OutputStream out, ExportPlan<T> plan, ExportJob job) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+            plan.source().accept(row -> {
+                try {
+                    writer.write(jsonMapper.writeValueAsString(row));
+                    writer.write('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                job.rows++;
+            });
+        }
+    }
+
+    /**
+     * Drops finished export jobs and their result files once they are past the retention period.
+     */
+    @Scheduled(fixedDelayString = "${app.exports.prune-interval:15m}")
+    public void pruneExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> {
+            boolean expired = job.completedAt != null && job.completedAt.isBefore(cutoff);
+            if (expired && job.file != null) {
+                SpoolFiles.deleteQuietly(job.file);
+            }
+            return expired;
+        });
+        SpoolFiles.pruneOlderThan(spoolDir, retention);
+    }
+
+    private static <E extends Enum<E>> E enumFilter(Map<String, String> filters, String name, Class<E> type) {
+        String value = filters.get(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new AppException(HttpStatus.BAD_REQUEST, "INVALID_FILTER", "Invalid value for filter " + name);
+        }
+    }
+
+    public record ExportFile(Path path, String fileName) {}
+
+    private record ExportPlan<T>(
+            String[] columns,
+            BiConsumer<CsvWriter, T> csvRow,
+            Consumer<Consumer<T>> source
+    ) {}
+
+    private static final class ExportJob {
+
+        private final UUID id;
+        private final ExportType type;
+        private final FileFormat format;
+        private final UUID requestedBy;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private volatile JobStatus status = JobStatus.QUEUED;
+        private volatile long rows;
+        private volatile Long sizeBytes;
+        private volatile String error;
+        private volatile Path file;
+        private volatile LocalDateTime completedAt;
+
+        private ExportJob(UUID id, ExportType type, FileFormat format, UUID requestedBy) {
+            this.id = id;
+            this.type = type;
+            this.format = format;
+            this.requestedBy = requestedBy;
+        }
+
+        private String fileName() {
+            String extension = format == FileFormat.CSV ? "csv" : "ndjson";
+            return type.name().toLowerCase(Locale.ROOT) + "-" + id + "." + extension + ".gz";
+        }
+
+        private ExportJobResponse toResponse() {
+            return new ExportJobResponse(
+                    id,
+                    type,
+                    format,
+                    status,
+                    rows,
+                    sizeBytes,
+                    error,
+                    requestedBy,
+                    createdAt,
+                    completedAt
+            );
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package com.learnapp.service;
+
+import com.learnapp.dto.LeaderboardEntryResponse;
+import com.learnapp.dto.LeaderboardMetric;
+import com.learnapp.dto.LeaderboardPeriod;
+import com.learnapp.entities.User;
+import com.learnapp.error.AppException;
+import com.learnapp.repository.LeaderboardJdbcRepository;
+import com.learnapp.repository.LeaderboardJdbcRepository.Score;
+import com.learnapp.repository.UserRepository;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Weekly and all-time leaderboards by words mastered and by reviews, held in memory
+ * as {@link RankedScores} and fed by learning-list writes after commit. Each instance
+ * checkpoints only the increments it recorded, added onto {@code leaderboard_scores}
+ * periodically and on shutdown, and rebuilds its boards from that table at startup
+ * and on every refresh. With several instances, a user's progress made elsewhere shows
+ * up here after that instance's checkpoint and this one's next refresh. Weeks start on
+ * Monday (UTC) for every user, unlike daily stats and streaks, which follow each
+ * user's own time zone.
+ */
+@Service
+public class LeaderboardService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardService.class);
+    private static final LocalDate ALL_TIME = LocalDate.EPOCH;
+    private static final int MAX_LIMIT = 100;
+
+    private final LeaderboardJdbcRepository repository;
+    private final UserRepository userRepository;
+    private final int checkpointBatchSize;
+    // Increments not yet added to leaderboard_scores.
+    private final Map<ScoreKey, Long> pending = new ConcurrentHashMap<>();
+    private final Object weekLock = new Object();
+    private volatile Map<LeaderboardMetric, RankedScores> allTime;
+    private volatile Week week;
+    private volatile boolean ready;
+    private LocalDate prunedBefore;
+
+    public LeaderboardService(
+            LeaderboardJdbcRepository repository,
+            UserRepository userRepository,
+            @Value("${app.leaderboard.checkpoint-batch-size:1000}") int checkpointBatchSize
+    ) {
+        this.repository = repository;
+        this.userRepository = userRepository;
+        this.checkpointBatchSize = checkpointBatchSize;
+        this.allTime = emptyBoards();
+        this.week = new Week(currentWeekStart());
+    }
+
+    /**
+     * Loads the checkpoint. Scores recorded before this finishes are added on top of
+     * the loaded ones, and checkpoints are held back until it is done.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long started = System.nanoTime();
+        Week current = currentWeek();
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            RankedScores allTimeBoard = allTime.get(metric);
+            RankedScores weeklyBoard = current.board(metric);
+            repository.forEachScore(metric.name(), ALL_TIME, allTimeBoard::increment);
+            repository.forEachScore(metric.name(), current.start(), weeklyBoard::increment);
+        }
+        ready = true;
+        logger.info(
+                "Leaderboards loaded: users={}, took={}ms",
+                allTime.get(LeaderboardMetric.REVIEWS).size(),
+                (System.nanoTime() - started) / 1_000_000
+        );
+    }
+
+    /**
+     * Adds one user's progress once the current transaction commits.
+     *
+     * @param reviews reviews submitted
+     * @param masteredDelta net change in cards currently mastered (all-time board)
+     * @param masteredGained cards that reached mastered (weekly board)
+     */
+    public void record(UUID userId, int reviews, int masteredDelta, int masteredGained) {
+        if (reviews == 0 && masteredDelta == 0 && masteredGained == 0) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            Week current = currentWeek();
+            add(LeaderboardMetric.REVIEWS, ALL_TIME, allTime.get(LeaderboardMetric.REVIEWS), userId, reviews);
+            add(LeaderboardMetric.REVIEWS, current.start(), current.board(LeaderboardMetric.REVIEWS), userId, reviews);
+            add(LeaderboardMetric.MASTERED, ALL_TIME, allTime.get(LeaderboardMetric.MASTERED), userId, masteredDelta);
+            add(LeaderboardMetric.MASTERED, current.start(), current.board(LeaderboardMetric.MASTERED), userId, masteredGained);
+        });
+    }
+
+    /**
+     * Drops a user from every board, e.g. after the account is deleted. Their checkpointed
+     * rows are kept for {@link #restore(UUID)}.
+     */
+    public void remove(UUID userId) {
+        TransactionCallbacks.afterCommit(() -> {
+            Week current = currentWeek();
+            for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+                allTime.get(metric).remove(userId);
+                current.board(metric).remove(userId);
+            }
+        });
+    }
+
+    /**
+     * Puts a restored user back on the boards with their checkpointed scores.
+     */
+    public void restore(UUID userId) {
+        TransactionCallbacks.afterCommit(() -> {
+            if (!ready) {
+                // warmUp() has not loaded the checkpoint yet and will pick the user up.
+                return;
+            }
+            Week current = currentWeek();
+            for (Score score : repository.findUserScores(userId, ALL_TIME, current.start())) {
+                LeaderboardMetric metric = LeaderboardMetric.valueOf(score.metric());
+                RankedScores board = score.periodStart().equals(ALL_TIME)
+                        ? allTime.get(metric)
+                        : current.board(metric);
+                board.set(userId, score.score());
+            }
+        });
+    }
+
+    public List<LeaderboardEntryResponse> top(LeaderboardMetric metric, LeaderboardPeriod period, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        List<RankedScores.Entry> entries = board(metric, period).range(1, boundedLimit);
+        List<UUID> userIds = entries.stream().map(RankedScores.Entry::userId).toList();
+        Map<UUID, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        List<LeaderboardEntryResponse> result = new ArrayList<>(entries.size());
+        for (RankedScores.Entry entry : entries) {
+            User user = users.get(entry.userId());
+            result.add(new LeaderboardEntryResponse(
+                    entry.rank(),
+                    entry.userId(),
+                    user == null ? null : user.getDisplayName(),
+                    user == null ? null : user.getAvatarUrl(),
+                    entry.score()
+            ));
+        }
+        return result;
+    }
+
+    /**
+     * The user's rank and score; {@code rank} is null when the user has no score yet.
+     */
+    public LeaderboardEntryResponse rankOf(UUID userId, LeaderboardMetric metric, LeaderboardPeriod period) {
+        User user = userRepository.findById(userId)
+                .filter(candidate -> candidate.getDeletedAt() == null)
+                .orElseThrow(() -> new AppException(HttpStatus.NOT_FOUND, "USER_NOT_FOUND", "User not found"));
+        RankedScores board = board(metric, period);
+        int rank = board.rank(user.getId());
+        return new LeaderboardEntryResponse(
+                rank == 0 ? null : rank,
+                user.getId(),
+                user.getDisplayName(),
+                user.getAvatarUrl(),
+                board.score(user.getId())
+        );
+    }
+
+    /**
+     * Adds the increments recorded since the last checkpoint to the stored scores. Once
+     * per week, also drops weekly rows older than the previous week.
+     */
+    @Scheduled(fixedDelayString = "${app.leaderboard.checkpoint-interval:1m}")
+    public synchronized void checkpoint() {
+        if (!ready) {
+            return;
+        }
+        Week current = currentWeek();
+        List<Score> deltas = new ArrayList<>(checkpointBatchSize);
+        for (ScoreKey key : pending.keySet()) {
+            Long delta = pending.remove(key);
+            if (delta == null || delta == 0) {
+                continue;
+            }
+            deltas.add(new Score(key.metric().name(), key.periodStart(), key.userId(), delta));
+            if (deltas.size() == checkpointBatchSize) {
+                write(deltas);
+                deltas.clear();
+            }
+        }
+        if (!deltas.isEmpty()) {
+            write(deltas);
+        }
+        LocalDate keepFrom = current.start().minusWeeks(1);
+        if (!keepFrom.equals(prunedBefore)) {
+            for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+                repository.deleteWeeksBefore(metric.name(), ALL_TIME, keepFrom);
+            }
+            prunedBefore = keepFrom;
+        }
+    }
+
+    /**
+     * Rebuilds the boards from {@code leaderboard_scores} plus this instance's pending
+     * increments, picking up scores checkpointed by other instances.
+     */
+    @Scheduled(fixedDelayString = "${app.leaderboard.refresh-interval:5m}")
+    public synchronized void refresh() {
+        if (!ready) {
+            return;
+        }
+        Week current = currentWeek();
+        Map<LeaderboardMetric, RankedScores> loadedAllTime = emptyBoards();
+        Week loadedWeek = new Week(current.start());
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            repository.forEachScore(metric.name(), ALL_TIME, loadedAllTime.get(metric)::increment);
+            repository.forEachScore(metric.name(), current.start(), loadedWeek.board(metric)::increment);
+        }
+        // Increments recorded while loading reach the new boards at the next refresh.
+        pending.forEach((key, delta) -> {
+            if (key.periodStart().equals(ALL_TIME)) {
+                loadedAllTime.get(key.metric()).increment(key.userId(), delta);
+            } else if (key.periodStart().equals(current.start())) {
+                loadedWeek.board(key.metric()).increment(key.userId(), delta);
+            }
+        });
+        allTime = loadedAllTime;
+        synchronized (weekLock) {
+            if (week.start().equals(current.start())) {
+                week = loadedWeek;
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        checkpoint();
+    }
+
+    private void write(List<Score> deltas) {
+        try {
+            repository.addScores(deltas);
+        } catch (RuntimeException ex) {
+            for (Score delta : deltas) {
+                ScoreKey key = new ScoreKey(
+                        LeaderboardMetric.valueOf(delta.metric()),
+                        delta.periodStart(),
+                        delta.userId()
+                );
+                pending.merge(key, delta.score(), Long::sum);
+            }
+            throw ex;
+        }
+    }
+
+    private void add(LeaderboardMetric metric, LocalDate periodStart, RankedScores board, UUID userId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        board.increment(userId, delta);
+        pending.merge(new ScoreKey(metric, periodStart, userId), (long) delta, Long::sum);
+    }
+
+    private static Map<LeaderboardMetric, RankedScores> emptyBoards() {
+        Map<LeaderboardMetric, RankedScores> boards = new EnumMap<>(LeaderboardMetric.class);
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            boards.put(metric, new RankedScores());
+        }
+        return boards;
+    }
+
+    private RankedScores board(LeaderboardMetric metric, LeaderboardPeriod period) {
+        return period == LeaderboardPeriod.ALL_TIME ? allTime.get(metric) : currentWeek().board(metric);
+    }
+
+    private Week currentWeek() {
+        Week current = week;
+        LocalDate start = currentWeekStart();
+        if (current.start().equals(start)) {
+            return current;
+        }
+        synchronized (weekLock) {
+            if (!week.start().equals(start)) {
+                week = new Week(start);
+            }
+            return week;
+        }
+    }
+
+    private static LocalDate currentWeekStart() {
+        return LocalDate.now(ZoneOffset.UTC).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private record ScoreKey(LeaderboardMetric metric, LocalDate periodStart, UUID userId) {
+    }
+
+    private record Week(LocalDate start, Map<LeaderboardMetric, RankedScores> boards) {
+
+        private Week(LocalDate start) {
+            this(start, new EnumMap<>(LeaderboardMetric.class));
+            for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+                boards.put(metric, new RankedScores());
+            }
+        }
+
+        RankedScores board(LeaderboardMetric metric) {
+            return boards.get(metric);
+        }
+    }
+}
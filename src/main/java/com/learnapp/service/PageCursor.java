@@ -0,0 +1,77 @@
+package com.learnapp.service;
+
+import com.learnapp.dto.CursorPage;
+import com.learnapp.error.AppException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Position in a keyset-paginated listing ordered by {@code (created_at DESC, id DESC)}.
+ * Clients only see the opaque token produced by {@link #encode()}.
+ */
+public record PageCursor(LocalDateTime createdAt, UUID id) {
+
+    public static final int MAX_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a client token. A missing or blank token means "first page" and yields {@code null}.
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw invalid();
+            }
+            return new PageCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw invalid();
+        }
+    }
+
+    public static int boundedSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code size + 1}; the extra row
+     * only signals that another page exists.
+     */
+    public static <T> CursorPage<T> page(List<T> rows, int size, Function<T, PageCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> items = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(items.get(items.size() - 1)).encode() : null;
+        return new CursorPage<>(List.copyOf(items), nextCursor, hasNext);
+    }
+
+    static LocalDateTime createdAtOf(PageCursor cursor) {
+        return cursor == null ? null : cursor.createdAt();
+    }
+
+    static UUID idOf(PageCursor cursor) {
+        return cursor == null ? null : cursor.id();
+    }
+
+    private static AppException invalid() {
+        return new AppException(HttpStatus.BAD_REQUEST, "INVALID_CURSOR", "Invalid cursor");
+    }
+}
@@ -0,0 +1,59 @@
+package com.learnapp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived cache of {@code count(*)} results keyed by a normalized filter tuple.
+ * While an entry is fresh, paged listings run only their content query and report
+ * the cached total, which may lag writes by up to the configured TTL.
+ */
+@Component
+public class PageTotalsCache {
+
+    private final Cache<List<Object>, Long> totals;
+
+    public PageTotalsCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.paging.total-cache-ttl:30s}") Duration ttl,
+            @Value("${app.paging.total-cache-size:10000}") long maximumSize
+    ) {
+        this.totals = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, totals, "page.totals");
+    }
+
+    public static List<Object> key(Object... filters) {
+        return Arrays.asList(filters);
+    }
+
+    public <T> Page<T> page(
+            List<Object> key,
+            Pageable pageable,
+            Supplier<Page<T>> countedQuery,
+            Supplier<Slice<T>> sliceQuery
+    ) {
+        Long total = totals.getIfPresent(key);
+        if (total == null) {
+            Page<T> page = countedQuery.get();
+            totals.put(key, page.getTotalElements());
+            return page;
+        }
+        return PageableExecutionUtils.getPage(sliceQuery.get().getContent(), pageable, () -> total);
+    }
+}
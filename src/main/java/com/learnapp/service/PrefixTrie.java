@@ -0,0 +1,177 @@
+package com.learnapp.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compact character trie used for type-ahead suggestions. Children are kept in
+ * sorted parallel arrays rather than maps, so a node costs two small arrays and
+ * completions come out in lexicographic order without sorting.
+ */
+final class PrefixTrie {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    // Rough HotSpot sizes with compressed oops: node object plus two array headers,
+    // and one char + one reference per edge.
+    private static final long NODE_BYTES = 24 + 16 + 16;
+    private static final long EDGE_BYTES = 2 + 4;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private int size;
+    private int nodeCount = 1;
+
+    boolean add(String term) {
+        lock.writeLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < term.length(); i++) {
+                char c = term.charAt(i);
+                int index = Arrays.binarySearch(node.keys, c);
+                if (index < 0) {
+                    index = -index - 1;
+                    node.insertChild(index, c, new Node());
+                    nodeCount += 1;
+                }
+                node = node.children[index];
+            }
+            if (node.terminal) {
+                return false;
+            }
+            node.terminal = true;
+            size += 1;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    boolean remove(String term) {
+        lock.writeLock().lock();
+        try {
+            Node[] path = new Node[term.length() + 1];
+            path[0] = root;
+            for (int i = 0; i < term.length(); i++) {
+                int index = Arrays.binarySearch(path[i].keys, term.charAt(i));
+                if (index < 0) {
+                    return false;
+                }
+                path[i + 1] = path[i].children[index];
+            }
+            Node last = path[term.length()];
+            if (!last.terminal) {
+                return false;
+            }
+            last.terminal = false;
+            size -= 1;
+            for (int i = term.length(); i > 0 && !path[i].terminal && path[i].keys.length == 0; i--) {
+                path[i - 1].removeChild(Arrays.binarySearch(path[i - 1].keys, term.charAt(i - 1)));
+                nodeCount -= 1;
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<String> complete(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                int index = Arrays.binarySearch(node.keys, prefix.charAt(i));
+                if (index < 0) {
+                    return List.of();
+                }
+                node = node.children[index];
+            }
+            List<String> results = new ArrayList<>(Math.min(limit, 16));
+            collect(node, new StringBuilder(prefix), limit, results);
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int nodeCount() {
+        lock.readLock().lock();
+        try {
+            return nodeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            // Every node except the root hangs off exactly one edge.
+            return nodeCount * NODE_BYTES + (nodeCount - 1L) * EDGE_BYTES;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collect(Node node, StringBuilder current, int limit, List<String> results) {
+        if (node.terminal) {
+            results.add(current.toString());
+            if (results.size() >= limit) {
+                return;
+            }
+        }
+        for (int i = 0; i < node.keys.length && results.size() < limit; i++) {
+            current.append(node.keys[i]);
+            collect(node.children[i], current, limit, results);
+            current.setLength(current.length() - 1);
+        }
+    }
+
+    private static final class Node {
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private boolean terminal;
+
+        private void insertChild(int index, char key, Node child) {
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newKeys[index] = key;
+            newChildren[index] = child;
+            System.arraycopy(keys, index, newKeys, index + 1, keys.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        private void removeChild(int index) {
+            if (keys.length == 1) {
+                keys = NO_KEYS;
+                children = NO_CHILDREN;
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+    }
+}
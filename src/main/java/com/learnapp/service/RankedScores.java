@@ -0,0 +1,195 @@
+package com.learnapp.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Indexable skip list of user scores, highest first (ties by user id). Every link
+ * stores how many entries it skips, so score updates, "rank of user" and "entries
+ * from rank r" all run in expected O(log n). Users with a score of zero or less are
+ * not ranked. Thread-safe.
+ */
+public final class RankedScores {
+
+    private static final int MAX_LEVEL = 32;
+
+    private final Node head = new Node(null, Long.MAX_VALUE, MAX_LEVEL);
+    private final Map<UUID, Node> nodes = new HashMap<>();
+    private int level = 1;
+
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    public synchronized long score(UUID userId) {
+        Node node = nodes.get(userId);
+        return node == null ? 0 : node.score;
+    }
+
+    /**
+     * Adds {@code delta} to the user's score and returns the new score.
+     */
+    public synchronized long increment(UUID userId, long delta) {
+        long score = score(userId) + delta;
+        set(userId, score);
+        return score;
+    }
+
+    public synchronized void set(UUID userId, long score) {
+        Node existing = nodes.remove(userId);
+        if (existing != null) {
+            unlink(existing);
+        }
+        if (score > 0) {
+            nodes.put(userId, insert(userId, score));
+        }
+    }
+
+    public synchronized void remove(UUID userId) {
+        set(userId, 0);
+    }
+
+    /**
+     * 1-based rank of the user, or 0 when the user is not ranked.
+     */
+    public synchronized int rank(UUID userId) {
+        Node node = nodes.get(userId);
+        if (node == null) {
+            return 0;
+        }
+        int rank = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && !after(x.next[i], node.score, node.userId)) {
+                rank += x.span[i];
+                x = x.next[i];
+            }
+            if (x == node) {
+                return rank;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Up to {@code limit} entries starting at 1-based rank {@code fromRank}.
+     */
+    public synchronized List<Entry> range(int fromRank, int limit) {
+        List<Entry> entries = new ArrayList<>(Math.max(0, Math.min(limit, nodes.size())));
+        Node x = nodeAt(fromRank);
+        for (int rank = fromRank; x != null && entries.size() < limit; rank++, x = x.next[0]) {
+            entries.add(new Entry(rank, x.userId, x.score));
+        }
+        return entries;
+    }
+
+    private Node nodeAt(int rank) {
+        if (rank < 1 || rank > nodes.size()) {
+            return null;
+        }
+        int traversed = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= rank) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            if (traversed == rank) {
+                return x;
+            }
+        }
+        return null;
+    }
+
+    private Node insert(UUID userId, long score) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && before(x.next[i], score, userId)) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = nodes.size();
+            }
+            level = nodeLevel;
+        }
+
+        Node node = new Node(userId, score, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        return node;
+    }
+
+    private void unlink(Node node) {
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && before(x.next[i], node.score, node.userId)) {
+                x = x.next[i];
+            }
+            if (x.next[i] == node) {
+                x.span[i] += node.span[i] - 1;
+                x.next[i] = node.next[i];
+            } else {
+                x.span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+    }
+
+    private static boolean before(Node node, long score, UUID userId) {
+        return node.score > score || (node.score == score && node.userId.compareTo(userId) < 0);
+    }
+
+    private static boolean after(Node node, long score, UUID userId) {
+        return node.score < score || (node.score == score && node.userId.compareTo(userId) > 0);
+    }
+
+    private static int randomLevel() {
+        int nodeLevel = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (nodeLevel < MAX_LEVEL && random.nextInt(4) == 0) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+
+    public record Entry(int rank, UUID userId, long score) {
+    }
+
+    private static final class Node {
+        private final UUID userId;
+        private final long score;
+        private final Node[] next;
+        private final int[] span;
+
+        private Node(UUID userId, long score, int level) {
+            this.userId = userId;
+            this.score = score;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.learnapp.service;
+
+import com.learnapp.repository.ReviewEvent;
+import com.learnapp.repository.ReviewEventJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Buffers review events in memory and writes them to {@code review_events} in batches,
+ * folding each batch into {@code user_daily_stats} in the same transaction. Requests
+ * only enqueue after their own transaction commits and never touch the database; all
+ * writes happen on the scheduled flush, so stats lag the log by at most one flush
+ * interval. When the buffer is full, new events are dropped and counted in
+ * {@code reviews.events.dropped}.
+ */
+@Component
+public class ReviewEventLog implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewEventLog.class);
+
+    private final ReviewEventJdbcRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<ReviewEvent> buffer;
+    private final int batchSize;
+    private final Object flushLock = new Object();
+    private final Counter dropped;
+
+    public ReviewEventLog(
+            ReviewEventJdbcRepository repository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.reviews.events.buffer-capacity:50000}") int bufferCapacity,
+            @Value("${app.reviews.events.batch-size:1000}") int batchSize
+    ) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Always its own transaction, also when a flush is reached from a commit callback.
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.dropped = meterRegistry.counter("reviews.events.dropped");
+    }
+
+    /**
+     * Queues the events once the current transaction commits; dropped on rollback.
+     */
+    public void record(List<ReviewEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> events.forEach(this::enqueue));
+    }
+
+    @Scheduled(fixedDelayString = "${app.reviews.events.flush-interval:1s}")
+    public void flush() {
+        synchronized (flushLock) {
+            List<ReviewEvent> batch = new ArrayList<>(batchSize);
+            while (buffer.drainTo(batch, batchSize) > 0) {
+                if (!write(batch)) {
+                    return;
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private void enqueue(ReviewEvent event) {
+        // Runs in the request's after-commit callback: never flush or block here.
+        if (!buffer.offer(event)) {
+            dropped.increment();
+            logger.warn("Review event buffer full, dropping event for user {}", event.userId());
+        }
+    }
+
+    private boolean write(List<ReviewEvent> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                repository.insertEvents(batch);
+                repository.addDailyStats(batch);
+            });
+            return true;
+        } catch (RuntimeException ex) {
+            int kept = 0;
+            for (ReviewEvent event : batch) {
+                kept += buffer.offer(event) ? 1 : 0;
+            }
+            dropped.increment(batch.size() - kept);
+            logger.warn("Review event flush failed, {} of {} events kept for retry", kept, batch.size(), ex);
+            return false;
+        }
+    }
+}
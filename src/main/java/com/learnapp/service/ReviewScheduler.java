@@ -0,0 +1,50 @@
+package com.learnapp.service;
+
+import com.learnapp.entities.UserVocabulary;
+import java.time.LocalDateTime;
+
+/**
+ * SM-2 spaced-repetition scheduling. Grades run from 0 (blackout) to 5 (perfect);
+ * 3 or more counts as a successful recall.
+ */
+public final class ReviewScheduler {
+
+    public static final double DEFAULT_EASE = 2.5;
+    public static final double MIN_EASE = 1.3;
+    public static final int MAX_GRADE = 5;
+    private static final int PASSING_GRADE = 3;
+
+    private ReviewScheduler() {
+    }
+
+    /**
+     * Applies one graded review to {@code card}: updates ease, interval, repetition
+     * count and the next due time. {@code grade} is range-checked by request validation.
+     */
+    public static void review(UserVocabulary card, int grade, LocalDateTime now) {
+        int repetitions = card.getRepetitions() == null ? 0 : card.getRepetitions();
+        int interval = card.getIntervalDays() == null ? 0 : card.getIntervalDays();
+        double ease = card.getEaseFactor() == null ? DEFAULT_EASE : card.getEaseFactor();
+
+        if (grade >= PASSING_GRADE) {
+            if (repetitions == 0) {
+                interval = 1;
+            } else if (repetitions == 1) {
+                interval = 6;
+            } else {
+                interval = (int) Math.round(interval * ease);
+            }
+            repetitions += 1;
+        } else {
+            repetitions = 0;
+            interval = 1;
+        }
+        int miss = MAX_GRADE - grade;
+        ease = Math.max(MIN_EASE, ease + 0.1 - miss * (0.08 + miss * 0.02));
+
+        card.setRepetitions(repetitions);
+        card.setIntervalDays(interval);
+        card.setEaseFactor(ease);
+        card.setDueAt(now.plusDays(interval));
+    }
+}
@@ -0,0 +1,61 @@
+package com.learnapp.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * File housekeeping for the local spool directories used by background jobs.
+ */
+final class SpoolFiles {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpoolFiles.class);
+
+    private SpoolFiles() {
+    }
+
+    /**
+     * Deletes files in {@code directory} last modified more than {@code age} ago,
+     * including files left behind by a previous process.
+     */
+    static void pruneOlderThan(Path directory, Duration age) {
+        pruneOlderThan(directory, age, file -> false);
+    }
+
+    /**
+     * Like {@link #pruneOlderThan(Path, Duration)}, but never deletes files matched by {@code keep}.
+     */
+    static void pruneOlderThan(Path directory, Duration age, Predicate<Path> keep) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        Instant cutoff = Instant.now().minus(age);
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> !keep.test(file) && isOlderThan(file, cutoff)).forEach(SpoolFiles::deleteQuietly);
+        } catch (IOException ex) {
+            logger.warn("Could not clean spool directory {}", directory, ex);
+        }
+    }
+
+    static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            logger.warn("Could not delete spool file {}", file, ex);
+        }
+    }
+
+    private static boolean isOlderThan(Path file, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+}
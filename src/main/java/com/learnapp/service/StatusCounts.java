@@ -0,0 +1,40 @@
+package com.learnapp.service;
+
+import com.learnapp.entities.UserVocabStatus;
+
+/**
+ * Net change in learning-list size per status, collected while cards are added,
+ * moved or removed and written to {@code user_vocab_counters} once per transaction.
+ */
+final class StatusCounts {
+
+    private final int[] deltas = new int[UserVocabStatus.values().length];
+
+    /**
+     * Records a card moving between statuses; {@code null} means added or removed.
+     */
+    void move(UserVocabStatus from, UserVocabStatus to) {
+        if (from == to) {
+            return;
+        }
+        if (from != null) {
+            deltas[from.ordinal()]--;
+        }
+        if (to != null) {
+            deltas[to.ordinal()]++;
+        }
+    }
+
+    int get(UserVocabStatus status) {
+        return deltas[status.ordinal()];
+    }
+
+    boolean isEmpty() {
+        for (int delta : deltas) {
+            if (delta != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
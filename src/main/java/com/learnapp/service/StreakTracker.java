@@ -0,0 +1,61 @@
+package com.learnapp.service;
+
+import com.learnapp.entities.UserStreak;
+import java.time.LocalDate;
+
+/**
+ * Incremental daily-goal streaks. A day counts towards the streak once its review
+ * count reaches the goal; missing a whole day resets the streak. All dates are the
+ * user's local dates.
+ */
+public final class StreakTracker {
+
+    private StreakTracker() {
+    }
+
+    /**
+     * Adds {@code reviews} made on {@code today} to the streak row.
+     */
+    public static void record(UserStreak streak, LocalDate today, int reviews, Integer dailyGoal) {
+        LocalDate activityDate = streak.getActivityDate();
+        if (activityDate == null || today.isAfter(activityDate)) {
+            streak.setActivityDate(today);
+            streak.setActivityReviews(0);
+        }
+        // A zone change can move "today" backwards; count those reviews on the newer day.
+        streak.setActivityReviews(streak.getActivityReviews() + reviews);
+
+        LocalDate day = streak.getActivityDate();
+        LocalDate lastGoalDate = streak.getLastGoalDate();
+        if (streak.getActivityReviews() < goal(dailyGoal) || day.equals(lastGoalDate)) {
+            return;
+        }
+        boolean continues = lastGoalDate != null && lastGoalDate.plusDays(1).equals(day);
+        int current = continues ? streak.getCurrentStreak() + 1 : 1;
+        streak.setCurrentStreak(current);
+        streak.setLongestStreak(Math.max(streak.getLongestStreak(), current));
+        streak.setLastGoalDate(day);
+    }
+
+    /**
+     * The streak as seen on {@code today}: still alive while the goal was met today or yesterday.
+     */
+    public static int currentStreak(UserStreak streak, LocalDate today) {
+        LocalDate lastGoalDate = streak.getLastGoalDate();
+        if (lastGoalDate == null || lastGoalDate.isBefore(today.minusDays(1))) {
+            return 0;
+        }
+        return streak.getCurrentStreak();
+    }
+
+    public static int reviewsOn(UserStreak streak, LocalDate today) {
+        return today.equals(streak.getActivityDate()) ? streak.getActivityReviews() : 0;
+    }
+
+    /**
+     * Reviews needed per day; at least one when the user has not set a goal.
+     */
+    public static int goal(Integer dailyGoal) {
+        return dailyGoal == null || dailyGoal < 1 ? 1 : dailyGoal;
+    }
+}
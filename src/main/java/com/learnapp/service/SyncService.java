@@ -0,0 +1,251 @@
+package com.learnapp.service;
+
+import com.learnapp.dto.SyncResponse;
+import com.learnapp.dto.SyncVocabularyResponse;
+import com.learnapp.dto.TopicResponse;
+import com.learnapp.dto.UserVocabularyResponse;
+import com.learnapp.entities.Topic;
+import com.learnapp.entities.TopicStatus;
+import com.learnapp.entities.TopicVocabulary;
+import com.learnapp.entities.UserVocabTombstone;
+import com.learnapp.entities.UserVocabulary;
+import com.learnapp.entities.Vocabulary;
+import com.learnapp.entities.VocabularyStatus;
+import com.learnapp.error.AppException;
+import com.learnapp.repository.TopicRepository;
+import com.learnapp.repository.TopicVocabularyRepository;
+import com.learnapp.repository.UserLiveness;
+import com.learnapp.repository.UserVocabTombstoneRepository;
+import com.learnapp.repository.UserVocabularyRepository;
+import com.learnapp.repository.VocabularyRepository;
+import com.learnapp.service.SyncToken.Position;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Delta sync for offline clients: the learning list, the approved vocabulary catalog
+ * and active topics changed since a {@link SyncToken}. Each table is read with a
+ * keyset range on its {@code updated_at} index. A table that is fully read restarts
+ * from {@code now - overlap} next time, so rows written by transactions that commit
+ * late are sent again rather than missed.
+ *
+ * <p>Vocabularies carry their topic ids, so clients build topic word lists locally.
+ * Topic links are only written in the transaction that inserts the vocabulary; a
+ * writer that links an existing vocabulary must also touch its {@code updated_at}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SyncService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncService.class);
+    private static final int MAX_LIMIT = 1000;
+
+    private final UserVocabularyRepository userVocabularyRepository;
+    private final UserVocabTombstoneRepository tombstoneRepository;
+    private final VocabularyRepository vocabularyRepository;
+    private final TopicRepository topicRepository;
+    private final TopicVocabularyRepository topicVocabularyRepository;
+    private final UserLivenessCache userLiveness;
+    private final Duration overlap;
+    private final Duration tombstoneRetention;
+
+    public SyncService(
+            UserVocabularyRepository userVocabularyRepository,
+            UserVocabTombstoneRepository tombstoneRepository,
+            VocabularyRepository vocabularyRepository,
+            TopicRepository topicRepository,
+            TopicVocabularyRepository topicVocabularyRepository,
+            UserLivenessCache userLiveness,
+            @Value("${app.sync.overlap:10s}") Duration overlap,
+            @Value("${app.sync.tombstone-retention:30d}") Duration tombstoneRetention
+    ) {
+        this.userVocabularyRepository = userVocabularyRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.vocabularyRepository = vocabularyRepository;
+        this.topicRepository = topicRepository;
+        this.topicVocabularyRepository = topicVocabularyRepository;
+        this.userLiveness = userLiveness;
+        this.overlap = overlap;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    /**
+     * Up to {@code limit} changed rows per table. {@code hasMore} is set while any table
+     * has rows left; clients repeat with the returned token until it is false.
+     */
+    public SyncResponse sync(UUID userId, String token, int limit) {
+        ensureUserNotDeleted(userId);
+        SyncToken since = SyncToken.decode(token);
+        LocalDateTime now = LocalDateTime.now();
+        if (!since.isInitial() && since.tombstones().updatedAt().isBefore(now.minus(tombstoneRetention))) {
+            throw new AppException(
+                    HttpStatus.GONE,
+                    "SYNC_TOKEN_EXPIRED",
+                    "Sync token is too old, start a full sync"
+            );
+        }
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        Position restart = new Position(now.minus(overlap), SyncToken.START.id());
+
+        Chunk<UserVocabulary> userVocabularies = chunk(
+                userVocabularyRepository.findChangedSince(
+                        userId,
+                        since.userVocabularies().updatedAt(),
+                        since.userVocabularies().id(),
+                        PageRequest.of(0, size + 1)
+                ),
+                size,
+                restart,
+                row -> new Position(row.getUpdatedAt(), row.getId())
+        );
+        Chunk<UserVocabTombstone> tombstones = chunk(
+                tombstoneRepository.findChangedSince(
+                        userId,
+                        since.tombstones().updatedAt(),
+                        since.tombstones().id(),
+                        PageRequest.of(0, size + 1)
+                ),
+                size,
+                restart,
+                row -> new Position(row.getDeletedAt(), row.getVocabularyId())
+        );
+        Chunk<Vocabulary> vocabularies = chunk(
+                vocabularyRepository.findChangedSince(
+                        since.vocabularies().updatedAt(),
+                        since.vocabularies().id(),
+                        PageRequest.of(0, size + 1)
+                ),
+                size,
+                restart,
+                row -> new Position(row.getUpdatedAt(), row.getId())
+        );
+        Chunk<Topic> topics = chunk(
+                topicRepository.findChangedSince(
+                        since.topics().updatedAt(),
+                        since.topics().id(),
+                        PageRequest.of(0, size + 1)
+                ),
+                size,
+                restart,
+                row -> new Position(row.getUpdatedAt(), row.getId())
+        );
+
+        VocabularyChanges vocabularyChanges = vocabularyChanges(vocabularies.rows(), topicIdsOf(vocabularies.rows()));
+        List<TopicResponse> changedTopics = new ArrayList<>();
+        List<UUID> removedTopics = new ArrayList<>();
+        for (Topic topic : topics.rows()) {
+            if (topic.getDeletedAt() == null && topic.getStatus() == TopicStatus.ACTIVE) {
+                changedTopics.add(TopicMapper.toResponse(topic));
+            } else {
+                removedTopics.add(topic.getId());
+            }
+        }
+        List<UserVocabularyResponse> changedUserVocabularies = userVocabularies.rows().stream()
+                .map(UserVocabularyMapper::toResponse)
+                .toList();
+        List<UUID> removedUserVocabularies = tombstones.rows().stream()
+                .map(UserVocabTombstone::getVocabularyId)
+                .toList();
+
+        SyncToken next = new SyncToken(userVocabularies.next(), tombstones.next(), vocabularies.next(), topics.next());
+        return new SyncResponse(
+                next.encode(),
+                userVocabularies.more() || tombstones.more() || vocabularies.more() || topics.more(),
+                changedUserVocabularies,
+                removedUserVocabularies,
+                vocabularyChanges.changed(),
+                vocabularyChanges.removed(),
+                changedTopics,
+                removedTopics
+        );
+    }
+
+    /**
+     * Drops learning-list tombstones past the retention period; tokens older than that
+     * get {@code 410 SYNC_TOKEN_EXPIRED}.
+     */
+    @Scheduled(cron = "${app.sync.tombstone-prune-cron:0 30 3 * * *}")
+    @Transactional
+    public void pruneTombstones() {
+        int deleted = tombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(tombstoneRetention));
+        logger.info("Pruned {} learning-list tombstones", deleted);
+    }
+
+    /**
+     * Splits changed catalog rows into upserts and removals. Only rows that were approved at
+     * some point are reported as removed; pending or rejected contributions that never
+     * reached the catalog are left out entirely.
+     */
+    static VocabularyChanges vocabularyChanges(List<Vocabulary> rows, Map<UUID, List<UUID>> topicIds) {
+        List<SyncVocabularyResponse> changed = new ArrayList<>();
+        List<UUID> removed = new ArrayList<>();
+        for (Vocabulary vocabulary : rows) {
+            if (vocabulary.getDeletedAt() == null && vocabulary.getStatus() == VocabularyStatus.APPROVED) {
+                changed.add(VocabularyMapper.toSyncResponse(
+                        vocabulary,
+                        topicIds.getOrDefault(vocabulary.getId(), List.of())
+                ));
+            } else if (vocabulary.getApprovedAt() != null) {
+                removed.add(vocabulary.getId());
+            }
+        }
+        return new VocabularyChanges(changed, removed);
+    }
+
+    private Map<UUID, List<UUID>> topicIdsOf(List<Vocabulary> vocabularies) {
+        List<UUID> approvedIds = vocabularies.stream()
+                .filter(vocabulary -> vocabulary.getDeletedAt() == null)
+                .filter(vocabulary -> vocabulary.getStatus() == VocabularyStatus.APPROVED)
+                .map(Vocabulary::getId)
+                .toList();
+        if (approvedIds.isEmpty()) {
+            return Map.of();
+        }
+        return topicVocabularyRepository.findByVocabularyIdIn(approvedIds).stream()
+                .collect(Collectors.groupingBy(
+                        TopicVocabulary::getVocabularyId,
+                        Collectors.mapping(TopicVocabulary::getTopicId, Collectors.toList())
+                ));
+    }
+
+    /**
+     * Trims rows fetched with a limit of {@code size + 1}. A truncated table continues
+     * exactly after its last row; a complete one restarts at the overlap window.
+     */
+    static <T> Chunk<T> chunk(List<T> rows, int size, Position restart, Function<T, Position> positionOf) {
+        if (rows.size() <= size) {
+            return new Chunk<>(rows, restart, false);
+        }
+        List<T> page = rows.subList(0, size);
+        return new Chunk<>(page, positionOf.apply(page.get(size - 1)), true);
+    }
+
+    private void ensureUserNotDeleted(UUID userId) {
+        boolean deleted = userLiveness.get(userId)
+                .map(UserLiveness::isDeleted)
+                .orElse(true);
+        if (deleted) {
+            throw new AppException(HttpStatus.NOT_FOUND, "USER_NOT_FOUND", "User not found");
+        }
+    }
+
+    record Chunk<T>(List<T> rows, Position next, boolean more) {
+    }
+
+    record VocabularyChanges(List<SyncVocabularyResponse> changed, List<UUID> removed) {
+    }
+}
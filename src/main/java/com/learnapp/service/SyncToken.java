@@ -0,0 +1,87 @@
+package com.learnapp.service;
+
+import com.learnapp.error.AppException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Delta-sync position: how far each synced table has been read, in
+ * {@code (updated_at, id)} order. Clients only see the opaque token produced by
+ * {@link #encode()}.
+ */
+public record SyncToken(Position userVocabularies, Position tombstones, Position vocabularies, Position topics) {
+
+    public static final Position START = new Position(LocalDateTime.of(1970, 1, 1, 0, 0), new UUID(0, 0));
+
+    private static final String FIELD_SEPARATOR = "|";
+    private static final String POSITION_SEPARATOR = "~";
+
+    public static SyncToken initial() {
+        return new SyncToken(START, START, START, START);
+    }
+
+    public String encode() {
+        String raw = String.join(
+                POSITION_SEPARATOR,
+                userVocabularies.encode(),
+                tombstones.encode(),
+                vocabularies.encode(),
+                topics.encode()
+        );
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a client token. A missing or blank token means "sync everything".
+     */
+    public static SyncToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return initial();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            String[] positions = raw.split(POSITION_SEPARATOR, -1);
+            if (positions.length != 4) {
+                throw invalid();
+            }
+            return new SyncToken(
+                    Position.decode(positions[0]),
+                    Position.decode(positions[1]),
+                    Position.decode(positions[2]),
+                    Position.decode(positions[3])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw invalid();
+        }
+    }
+
+    public boolean isInitial() {
+        return equals(initial());
+    }
+
+    private static AppException invalid() {
+        return new AppException(HttpStatus.BAD_REQUEST, "INVALID_SYNC_TOKEN", "Invalid sync token");
+    }
+
+    public record Position(LocalDateTime updatedAt, UUID id) {
+
+        private String encode() {
+            return updatedAt + FIELD_SEPARATOR + id;
+        }
+
+        private static Position decode(String raw) {
+            int separator = raw.indexOf(FIELD_SEPARATOR);
+            if (separator < 0) {
+                throw invalid();
+            }
+            return new Position(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.learnapp.service;
+
+import com.learnapp.dto.TopicResponse;
+import com.learnapp.entities.Topic;
+import com.learnapp.entities.TopicStatus;
+import com.learnapp.entities.Vocabulary;
+import com.learnapp.entities.VocabularyStatus;
+import com.learnapp.error.AppException;
+import com.learnapp.repository.TopicRepository;
+import com.learnapp.repository.VocabularyRepository;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Precomputed topic decks: every approved vocabulary of a topic as one gzip-compressed
+ * JSON file in a local cache directory, tagged with a hash of its bytes. A deck is
+ * built on first request and reused for as long as the topic's catalog version stays
+ * the same; the first request after a bump rebuilds it.
+ */
+@Service
+public class TopicDeckService {
+
+    private final TopicRepository topicRepository;
+    private final VocabularyRepository vocabularyRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
+    private final Path cacheDir;
+    private final Duration retention;
+    private final Map<UUID, DeckFile> decks = new ConcurrentHashMap<>();
+    private final Map<UUID, Object> buildLocks = new ConcurrentHashMap<>();
+
+    public TopicDeckService(
+            TopicRepository topicRepository,
+            VocabularyRepository vocabularyRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            JsonMapper jsonMapper,
+            @Value("${app.decks.cache-dir:${java.io.tmpdir}/learning-app-decks}") String cacheDir,
+            @Value("${app.decks.retention:1h}") Duration retention
+    ) {
+        this.topicRepository = topicRepository;
+        this.vocabularyRepository = vocabularyRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.jsonMapper = jsonMapper;
+        this.cacheDir = Path.of(cacheDir);
+        this.retention = retention;
+    }
+
+    /**
+     * The current deck of an active topic, building it if needed.
+     */
+    public DeckFile get(UUID topicId) {
+        Topic topic = topicRepository.findByIdAndDeletedAtIsNull(topicId)
+                .filter(candidate -> candidate.getStatus() == TopicStatus.ACTIVE)
+                .orElseThrow(() -> new AppException(HttpStatus.NOT_FOUND, "TOPIC_NOT_FOUND", "Topic not found"));
+        long version = topic.getCatalogVersion();
+        DeckFile deck = decks.get(topicId);
+        if (isCurrent(deck, version)) {
+            return deck;
+        }
+        synchronized (buildLocks.computeIfAbsent(topicId, key -> new Object())) {
+            deck = decks.get(topicId);
+            if (isCurrent(deck, version)) {
+                return deck;
+            }
+            // A change committed while building only bumps the version further, so the next
+            // request still sees this deck as stale.
+            deck = build(TopicMapper.toResponse(topic), version);
+            decks.put(topicId, deck);
+            return deck;
+        }
+    }
+
+    /**
+     * Deletes replaced deck files once no download can still be reading them.
+     */
+    @Scheduled(fixedDelayString = "${app.decks.prune-interval:15m}")
+    public void prune() {
+        Set<Path> current = decks.values().stream().map(DeckFile::path).collect(Collectors.toSet());
+        SpoolFiles.pruneOlderThan(cacheDir, retention, current::contains);
+    }
+
+    private static boolean isCurrent(DeckFile deck, long version) {
+        return deck != null && deck.version() >= version && Files.exists(deck.path());
+    }
+
+    private DeckFile build(TopicResponse topic, long version) {
+        Path part = cacheDir.resolve(topic.id() + "-" + UUID.randomUUID() + ".part");
+        try {
+            Files.createDirectories(cacheDir);
+            MessageDigest digest = sha256();
+            try (OutputStream out = new GZIPOutputStream(
+                    new DigestOutputStream(new BufferedOutputStream(Files.newOutputStream(part)), digest),
+                    8192
+            ); JsonGenerator generator = jsonMapper.createGenerator(out)) {
+                generator.writeStartObject();
+                generator.writePOJOProperty("topic", topic);
+                generator.writeName("vocabularies");
+                generator.writeStartArray();
+                transactionTemplate.executeWithoutResult(status -> {
+                    try (Stream<Vocabulary> rows = vocabularyRepository.streamByTopic(
+                            topic.id(),
+                            VocabularyStatus.APPROVED
+                    )) {
+                        rows.forEach(vocabulary -> {
+                            generator.writePOJO(VocabularyMapper.toResponse(vocabulary));
+                            entityManager.detach(vocabulary);
+                        });
+                    }
+                });
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            String etag = HexFormat.of().formatHex(digest.digest(), 0, 16);
+            Path target = cacheDir.resolve(topic.id() + "-" + etag + ".json.gz");
+            Files.move(part, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return new DeckFile(target, "\"" + etag + "\"", Files.size(target), version);
+        } catch (IOException ex) {
+            SpoolFiles.deleteQuietly(part);
+            throw new UncheckedIOException("Could not build deck for topic " + topic.id(), ex);
+        } catch (RuntimeException ex) {
+            SpoolFiles.deleteQuietly(part);
+            throw ex;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * A built deck: gzip-compressed JSON at {@code path}, with a strong ETag and the topic
+     * catalog version it was built from.
+     */
+    public record DeckFile(Path path, String etag, long sizeBytes, long version) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.learnapp.service;
+
+import com.learnapp.dto.TopicResponse;
+import com.learnapp.entities.Topic;
+
+public final class TopicMapper {
+
+    private TopicMapper() {
+    }
+
+    public static TopicResponse toResponse(Topic topic) {
+        return new TopicResponse(
+                topic.getId(),
+                topic.getName(),
+                topic.getSlug(),
+                topic.getDescription(),
+                topic.getVocabCount() == null ? 0 : topic.getVocabCount(),
+                topic.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,96 @@
+package com.learnapp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.learnapp.dto.TopicResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Pages of the public active-topic listing as ready-to-write JSON, plain and gzip-compressed,
+ * keyed by page number, size and sort. Entries are dropped when a topic create, update or
+ * delete commits, and expire after a TTL so changes made on other instances show up too.
+ */
+@Component
+public class TopicPageCache {
+
+    private final Cache<List<Object>, CachedPage> pages;
+    private final JsonMapper jsonMapper;
+    private final AtomicLong generation = new AtomicLong();
+
+    public TopicPageCache(
+            JsonMapper jsonMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.topics.page-cache.ttl:5m}") Duration ttl,
+            @Value("${app.topics.page-cache.max-size:1000}") long maximumSize
+    ) {
+        this.jsonMapper = jsonMapper;
+        this.pages = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "topics.pages");
+    }
+
+    /**
+     * The cached page, or a freshly serialized one. {@code version} is read before
+     * {@code loader} runs so the stored version never claims newer data than the bytes hold.
+     */
+    public CachedPage get(Pageable pageable, Supplier<String> version, Supplier<Page<TopicResponse>> loader) {
+        List<Object> key = List.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        CachedPage page = pages.getIfPresent(key);
+        if (page != null) {
+            return page;
+        }
+        long loadedGeneration = generation.get();
+        String loadedVersion = version.get();
+        page = serialize(loadedVersion, loader.get());
+        pages.put(key, page);
+        // An invalidation that ran while loading may have missed this entry; drop it again.
+        if (generation.get() != loadedGeneration) {
+            pages.invalidate(key);
+        }
+        return page;
+    }
+
+    /**
+     * Drops every cached page once the current transaction commits.
+     */
+    public void invalidate() {
+        TransactionCallbacks.afterCommit(() -> {
+            generation.incrementAndGet();
+            pages.invalidateAll();
+        });
+    }
+
+    private CachedPage serialize(String version, Page<TopicResponse> page) {
+        byte[] json = jsonMapper.writeValueAsBytes(page);
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(gzip)) {
+            out.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return new CachedPage(version, json, gzip.toByteArray());
+    }
+
+    /**
+     * One serialized page and the topic list version it was read at.
+     */
+    public record CachedPage(String version, byte[] json, byte[] gzip) {
+    }
+}
@@ -7,24 +7,49 @@ import com.learnapp.entities.Topic;
 import com.learnapp.entities.TopicStatus;
 import com.learnapp.error.AppException;
 import com.learnapp.repository.TopicRepository;
+import jakarta.persistence.EntityManager;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Transactional
 public class TopicService {
 
-    private final TopicRepository topicRepository;
+    private static final Logger logger = LoggerFactory.getLogger(TopicService.class);
+    private static final int SLUG_ATTEMPTS = 3;
 
-    public TopicService(TopicRepository topicRepository) {
+    private final TopicRepository topicRepository;
+    private final TopicPageCache topicPageCache;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public TopicService(
+            TopicRepository topicRepository,
+            TopicPageCache topicPageCache,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager
+    ) {
         this.topicRepository = topicRepository;
+        this.topicPageCache = topicPageCache;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Transactional(readOnly = true)
@@ -42,6 +67,23 @@ public class TopicService {
         return topic;
     }
 
+    /**
+     * Catalog version of an active topic, read without loading it; empty when the topic
+     * would not be found.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findActiveCatalogVersion(UUID id) {
+        return topicRepository.findCatalogVersion(id, TopicStatus.ACTIVE);
+    }
+
+    /**
+     * Version of the topic list as a whole; changes with every topic create, update or delete.
+     */
+    @Transactional(readOnly = true)
+    public String catalogListVersion() {
+        return topicRepository.findCatalogListVersion();
+    }
+
     @Transactional(readOnly = true)
     public Page<TopicResponse> searchTopics(
             String name,
@@ -54,33 +96,64 @@ public class TopicService {
                 normalizeSearch(slug),
                 status,
                 pageable
-        ).map(this::toResponse);
+        ).map(TopicMapper::toResponse);
     }
 
+    /**
+     * Streams every matching topic to {@code sink} from a forward-only cursor, detaching
+     * rows as they are consumed.
+     */
     @Transactional(readOnly = true)
-    public List<TopicResponse> exportTopics(String name, String slug, TopicStatus status) {
-        return topicRepository.searchTopics(
-                normalizeSearch(name),
-                normalizeSearch(slug),
-                status,
-                Pageable.unpaged()
-        ).map(this::toResponse).getContent();
+    public void exportTopics(String name, String slug, TopicStatus status, Consumer<TopicResponse> sink) {
+        try (Stream<Topic> topics = topicRepository.streamTopics(normalizeSearch(name), normalizeSearch(slug), status)) {
+            topics.forEach(topic -> {
+                sink.accept(TopicMapper.toResponse(topic));
+                entityManager.detach(topic);
+            });
+        }
     }
 
+    /**
+     * Creates a topic under the next free slug for its name. Each attempt runs in its own
+     * transaction, so when a concurrent create takes the same slug first the insert can be
+     * retried with a fresh pick.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TopicResponse createTopic(CreateTopicRequest request) {
         String name = request.name().trim();
+        String base = normalizeSlugFromName(name);
+        String description = request.description() == null ? null : request.description().trim();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> insertTopic(name, base, description));
+            } catch (DataIntegrityViolationException ex) {
+                if (!isSlugConflict(ex)) {
+                    throw ex;
+                }
+                if (attempt == SLUG_ATTEMPTS) {
+                    throw new AppException(
+                            HttpStatus.CONFLICT,
+                            "TOPIC_SLUG_CONFLICT",
+                            "Could not allocate a unique slug"
+                    );
+                }
+            }
+        }
+    }
+
+    private TopicResponse insertTopic(String name, String base, String description) {
         if (topicRepository.existsByNameIgnoreCase(name)) {
             throw new AppException(HttpStatus.CONFLICT, "TOPIC_NAME_EXISTS", "Name already exists");
         }
-        String slug = generateUniqueSlug(name, null);
         Topic topic = Topic.builder()
                 .name(name)
-                .slug(slug)
-                .description(request.description() == null ? null : request.description().trim())
+                .slug(TopicSlugs.nextFree(base, topicRepository.findSlugsWithBase(base)))
+                .description(description)
                 .status(TopicStatus.ACTIVE)
                 .build();
-        topic = topicRepository.save(topic);
-        return toResponse(topic);
+        topic = topicRepository.saveAndFlush(topic);
+        topicPageCache.invalidate();
+        return TopicMapper.toResponse(topic);
     }
 
     public TopicResponse updateTopic(UUID id, UpdateTopicRequest request) {
@@ -93,7 +166,7 @@ public class TopicService {
                 throw new AppException(HttpStatus.CONFLICT, "TOPIC_NAME_EXISTS", "Name already exists");
             }
             topic.setName(name);
-            topic.setSlug(generateUniqueSlug(name, topic.getId()));
+            topic.setSlug(generateUniqueSlug(name, topic.getSlug()));
         }
         if (request.description() != null) {
             topic.setDescription(request.description().trim());
@@ -103,7 +176,9 @@ public class TopicService {
         }
 
         topic = topicRepository.save(topic);
-        return toResponse(topic);
+        topicRepository.incrementCatalogVersion(List.of(topic.getId()));
+        topicPageCache.invalidate();
+        return TopicMapper.toResponse(topic);
     }
 
     public void deleteTopic(UUID id) {
@@ -111,33 +186,38 @@ public class TopicService {
                 .orElseThrow(() -> new AppException(HttpStatus.NOT_FOUND, "TOPIC_NOT_FOUND", "Topic not found"));
         topic.setDeletedAt(LocalDateTime.now());
         topicRepository.save(topic);
+        topicRepository.incrementCatalogVersion(List.of(id));
+        topicPageCache.invalidate();
     }
 
-    private TopicResponse toResponse(Topic topic) {
-        return new TopicResponse(
-                topic.getId(),
-                topic.getName(),
-                topic.getSlug(),
-                topic.getDescription(),
-                topic.getCreatedAt()
-        );
+    /**
+     * Repairs topic vocabulary counts that drifted from {@code topic_vocabularies}, e.g. after
+     * manual data fixes. Normally a no-op.
+     */
+    @Scheduled(cron = "${app.topics.vocab-count-reconcile-cron:0 45 3 * * *}")
+    public void reconcileVocabCounts() {
+        int repaired = topicRepository.reconcileVocabCounts();
+        if (repaired > 0) {
+            logger.warn("Repaired vocabulary counts of {} topics", repaired);
+            topicPageCache.invalidate();
+        }
     }
 
-    private String generateUniqueSlug(String name, UUID currentId) {
+    /**
+     * Keeps {@code currentSlug} when it already belongs to the name's base, so renames that
+     * normalize the same way do not move the topic's URL.
+     */
+    private String generateUniqueSlug(String name, String currentSlug) {
         String base = normalizeSlugFromName(name);
-        String slug = base;
-        int suffix = 1;
-        while (topicRepository.existsBySlug(slug)) {
-            if (currentId != null) {
-                Topic existing = topicRepository.findBySlugAndDeletedAtIsNull(slug).orElse(null);
-                if (existing != null && existing.getId().equals(currentId)) {
-                    return slug;
-                }
-            }
-            slug = base + "-" + suffix;
-            suffix += 1;
+        if (TopicSlugs.hasBase(currentSlug, base)) {
+            return currentSlug;
         }
-        return slug;
+        return TopicSlugs.nextFree(base, topicRepository.findSlugsWithBase(base));
+    }
+
+    private static boolean isSlugConflict(DataIntegrityViolationException ex) {
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null && message.contains("uk_topics_slug");
     }
 
     private String normalizeSlugFromName(String name) {
@@ -0,0 +1,59 @@
+package com.learnapp.service;
+
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * Picks topic slugs of the form {@code base} or {@code base-N} from the slugs already taken.
+ */
+final class TopicSlugs {
+
+    private TopicSlugs() {
+    }
+
+    /**
+     * {@code base} if it is free, otherwise {@code base-N} with the smallest free N from 1.
+     */
+    static String nextFree(String base, Collection<String> taken) {
+        boolean baseTaken = false;
+        BitSet suffixes = new BitSet();
+        for (String slug : taken) {
+            if (slug.equals(base)) {
+                baseTaken = true;
+                continue;
+            }
+            int suffix = suffixOf(slug, base);
+            if (suffix > 0) {
+                suffixes.set(suffix);
+            }
+        }
+        if (!baseTaken) {
+            return base;
+        }
+        return base + "-" + suffixes.nextClearBit(1);
+    }
+
+    /**
+     * Whether {@code slug} is {@code base} itself or one of its numbered variants.
+     */
+    static boolean hasBase(String slug, String base) {
+        return slug.equals(base) || suffixOf(slug, base) > 0;
+    }
+
+    /**
+     * N for {@code base-N}, or -1 when {@code slug} is not a numbered variant of {@code base}.
+     */
+    private static int suffixOf(String slug, String base) {
+        int start = base.length() + 1;
+        if (slug.length() <= start || slug.length() - start > 9
+                || !slug.startsWith(base) || slug.charAt(base.length()) != '-' || slug.charAt(start) == '0') {
+            return -1;
+        }
+        for (int i = start; i < slug.length(); i++) {
+            if (!Character.isDigit(slug.charAt(i))) {
+                return -1;
+            }
+        }
+        return Integer.parseInt(slug, start, slug.length(), 10);
+    }
+}
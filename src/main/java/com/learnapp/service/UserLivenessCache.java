@@ -0,0 +1,47 @@
+package com.learnapp.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.learnapp.repository.UserLiveness;
+import com.learnapp.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived cache of {@code (id, deletedAt, status, timeZone, dailyGoal)} per user,
+ * loaded through a projection so hot per-user endpoints do not read the full users
+ * row. Writers that change any of these columns must call {@link #invalidate(UUID)}
+ * after commit.
+ */
+@Component
+public class UserLivenessCache {
+
+    private final LoadingCache<UUID, Optional<UserLiveness>> cache;
+
+    public UserLivenessCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.users.liveness-cache.ttl:30s}") Duration ttl,
+            @Value("${app.users.liveness-cache.max-size:100000}") long maximumSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(userRepository::findLivenessById);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "users.liveness");
+    }
+
+    public Optional<UserLiveness> get(UUID userId) {
+        return cache.get(userId);
+    }
+
+    public void invalidate(UUID userId) {
+        cache.invalidate(userId);
+    }
+}
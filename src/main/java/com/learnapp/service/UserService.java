@@ -2,6 +2,7 @@ package com.learnapp.service;
 
 import com.learnapp.dto.AdminResetPasswordRequest;
 import com.learnapp.dto.AdminUpdateUserRequest;
+import com.learnapp.dto.CursorPage;
 import com.learnapp.dto.UpdateMeRequest;
 import com.learnapp.dto.UserResponse;
 import com.learnapp.entities.User;
@@ -9,11 +10,16 @@ import com.learnapp.entities.UserRole;
 import com.learnapp.entities.UserStatus;
 import com.learnapp.error.AppException;
 import com.learnapp.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import java.util.Locale;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -25,10 +31,25 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PageTotalsCache pageTotals;
+    private final UserLivenessCache userLiveness;
+    private final LeaderboardService leaderboard;
+    private final EntityManager entityManager;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(
+            UserRepository userRepository,
+            PasswordEncoder passwordEncoder,
+            PageTotalsCache pageTotals,
+            UserLivenessCache userLiveness,
+            LeaderboardService leaderboard,
+            EntityManager entityManager
+    ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.pageTotals = pageTotals;
+        this.userLiveness = userLiveness;
+        this.leaderboard = leaderboard;
+        this.entityManager = entityManager;
     }
 
     @Transactional(readOnly = true)
@@ -65,6 +86,9 @@ public class UserService {
         }
 
         user = userRepository.save(user);
+        if (request.timeZone() != null || request.dailyGoal() != null) {
+            invalidateLivenessAfterCommit(userId);
+        }
         return UserMapper.toResponse(user);
     }
 
@@ -77,7 +101,41 @@ public class UserService {
             UserStatus status,
             Pageable pageable
     ) {
-        return userRepository.searchUsers(
+        String normalizedEmail = normalizeSearch(email);
+        String normalizedUsername = normalizeSearch(username);
+        String normalizedDisplayName = normalizeSearch(displayName);
+        return pageTotals.page(
+                PageTotalsCache.key("users", normalizedEmail, normalizedUsername, normalizedDisplayName, role, status),
+                pageable,
+                () -> userRepository.searchUsers(
+                        normalizedEmail,
+                        normalizedUsername,
+                        normalizedDisplayName,
+                        role,
+                        status,
+                        pageable
+                ),
+                () -> userRepository.sliceUsers(
+                        normalizedEmail,
+                        normalizedUsername,
+                        normalizedDisplayName,
+                        role,
+                        status,
+                        pageable
+                )
+        ).map(UserMapper::toResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<UserResponse> listUsersSlice(
+            String email,
+            String username,
+            String displayName,
+            UserRole role,
+            UserStatus status,
+            Pageable pageable
+    ) {
+        return userRepository.sliceUsers(
                 normalizeSearch(email),
                 normalizeSearch(username),
                 normalizeSearch(displayName),
@@ -88,21 +146,56 @@ public class UserService {
     }
 
     @Transactional(readOnly = true)
-    public List<UserResponse> exportUsers(
+    public CursorPage<UserResponse> scrollUsers(
             String email,
             String username,
             String displayName,
             UserRole role,
-            UserStatus status
+            UserStatus status,
+            String cursor,
+            int size
     ) {
-        return userRepository.searchUsers(
+        PageCursor position = PageCursor.decode(cursor);
+        int pageSize = PageCursor.boundedSize(size);
+        List<User> rows = userRepository.scrollUsers(
                 normalizeSearch(email),
                 normalizeSearch(username),
                 normalizeSearch(displayName),
                 role,
                 status,
-                Pageable.unpaged()
-        ).map(UserMapper::toResponse).getContent();
+                PageCursor.createdAtOf(position),
+                PageCursor.idOf(position),
+                PageRequest.of(0, pageSize + 1)
+        );
+        return PageCursor.page(rows, pageSize, user -> new PageCursor(user.getCreatedAt(), user.getId()))
+                .map(UserMapper::toResponse);
+    }
+
+    /**
+     * Streams every matching user to {@code sink} from a forward-only cursor. Each row is
+     * detached once handed over, so memory stays flat regardless of the result size.
+     */
+    @Transactional(readOnly = true)
+    public void exportUsers(
+            String email,
+            String username,
+            String displayName,
+            UserRole role,
+            UserStatus status,
+            Consumer<UserResponse> sink
+    ) {
+        try (Stream<User> users = userRepository.streamUsers(
+                normalizeSearch(email),
+                normalizeSearch(username),
+                normalizeSearch(displayName),
+                role,
+                status
+        )) {
+            users.forEach(user -> {
+                sink.accept(UserMapper.toResponse(user));
+                entityManager.detach(user);
+            });
+        }
     }
 
     public UserResponse updateUser(UUID userId, AdminUpdateUserRequest request) {
@@ -147,6 +240,7 @@ public class UserService {
         }
 
         user = userRepository.save(user);
+        invalidateLivenessAfterCommit(userId);
         return UserMapper.toResponse(user);
     }
 
@@ -157,6 +251,8 @@ public class UserService {
         user.setDeletedAt(java.time.LocalDateTime.now());
         user.setStatus(UserStatus.INACTIVE);
         userRepository.save(user);
+        invalidateLivenessAfterCommit(userId);
+        leaderboard.remove(userId);
     }
 
     public void resetPassword(UUID userId, AdminResetPasswordRequest request) {
@@ -176,6 +272,8 @@ public class UserService {
         user.setDeletedAt(null);
         user.setStatus(UserStatus.ACTIVE);
         user = userRepository.save(user);
+        invalidateLivenessAfterCommit(userId);
+        leaderboard.restore(userId);
         return UserMapper.toResponse(user);
     }
 
@@ -191,6 +289,10 @@ public class UserService {
         return trimmed.isEmpty() ? null : trimmed;
     }
 
+    private void invalidateLivenessAfterCommit(UUID userId) {
+        TransactionCallbacks.afterCommit(() -> userLiveness.invalidate(userId));
+    }
+
     private void ensureNotDeleted(User user) {
         if (user.getDeletedAt() != null) {
             throw new AppException(HttpStatus.NOT_FOUND, "USER_NOT_FOUND", "User not found");
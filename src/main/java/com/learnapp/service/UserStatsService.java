@@ -0,0 +1,123 @@
+package com.learnapp.service;
+
+import com.learnapp.dto.DailyStatsResponse;
+import com.learnapp.dto.StreakResponse;
+import com.learnapp.dto.UserStatsResponse;
+import com.learnapp.entities.UserDailyStat;
+import com.learnapp.entities.UserStreak;
+import com.learnapp.error.AppException;
+import com.learnapp.repository.UserDailyStatRepository;
+import com.learnapp.repository.UserLiveness;
+import com.learnapp.repository.UserStreakRepository;
+import com.learnapp.repository.UserVocabCounterRepository;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Learning statistics for the current user, read from pre-aggregated tables only.
+ */
+@Service
+@Transactional(readOnly = true)
+public class UserStatsService {
+
+    private static final int DEFAULT_DAYS = 30;
+    private static final int MAX_DAYS = 366;
+
+    private final UserDailyStatRepository dailyStatRepository;
+    private final UserVocabCounterRepository counterRepository;
+    private final UserStreakRepository streakRepository;
+    private final UserLivenessCache userLiveness;
+
+    public UserStatsService(
+            UserDailyStatRepository dailyStatRepository,
+            UserVocabCounterRepository counterRepository,
+            UserStreakRepository streakRepository,
+            UserLivenessCache userLiveness
+    ) {
+        this.dailyStatRepository = dailyStatRepository;
+        this.counterRepository = counterRepository;
+        this.streakRepository = streakRepository;
+        this.userLiveness = userLiveness;
+    }
+
+    /**
+     * Today's progress towards the daily goal and the current streak, in the user's
+     * time zone. One primary-key read of {@code user_streaks}.
+     */
+    public StreakResponse streak(UUID userId) {
+        UserLiveness user = ensureUserNotDeleted(userId);
+        LocalDate today = LocalDate.now(user.zone());
+        int goal = StreakTracker.goal(user.dailyGoal());
+        UserStreak streak = streakRepository.findById(userId)
+                .orElseGet(() -> UserStreak.builder().userId(userId).build());
+        int todayReviews = StreakTracker.reviewsOn(streak, today);
+        return new StreakResponse(
+                today,
+                todayReviews,
+                goal,
+                todayReviews >= goal,
+                StreakTracker.currentStreak(streak, today),
+                streak.getLongestStreak()
+        );
+    }
+
+    /**
+     * Learning-list size per status: one primary-key read of {@code user_vocab_counters}.
+     */
+    public UserStatsResponse summary(UUID userId) {
+        ensureUserNotDeleted(userId);
+        return counterRepository.findById(userId)
+                .map(counter -> new UserStatsResponse(
+                        counter.getNewCount() + counter.getLearningCount() + counter.getMasteredCount(),
+                        counter.getNewCount(),
+                        counter.getLearningCount(),
+                        counter.getMasteredCount()
+                ))
+                .orElse(new UserStatsResponse(0, 0, 0, 0));
+    }
+
+    /**
+     * One entry per day in {@code [from, to]}, zero-filled for days without reviews.
+     * Days are calendar days in the user's time zone, as for streaks. Defaults to the
+     * last 30 days.
+     */
+    public List<DailyStatsResponse> daily(UUID userId, LocalDate from, LocalDate to) {
+        UserLiveness user = ensureUserNotDeleted(userId);
+        LocalDate end = to == null ? LocalDate.now(user.zone()) : to;
+        LocalDate start = from == null ? end.minusDays(DEFAULT_DAYS - 1) : from;
+        long days = ChronoUnit.DAYS.between(start, end) + 1;
+        if (days < 1 || days > MAX_DAYS) {
+            throw new AppException(
+                    HttpStatus.BAD_REQUEST,
+                    "INVALID_DATE_RANGE",
+                    "Date range must be between 1 and " + MAX_DAYS + " days"
+            );
+        }
+
+        Map<LocalDate, UserDailyStat> rows = new HashMap<>();
+        dailyStatRepository.findByUserIdAndStatDateBetweenOrderByStatDateAsc(userId, start, end)
+                .forEach(row -> rows.put(row.getStatDate(), row));
+        List<DailyStatsResponse> result = new ArrayList<>((int) days);
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            UserDailyStat row = rows.get(date);
+            result.add(row == null
+                    ? new DailyStatsResponse(date, 0, 0, 0)
+                    : new DailyStatsResponse(date, row.getReviews(), row.getNewlyLearned(), row.getMastered()));
+        }
+        return result;
+    }
+
+    private UserLiveness ensureUserNotDeleted(UUID userId) {
+        return userLiveness.get(userId)
+                .filter(user -> !user.isDeleted())
+                .orElseThrow(() -> new AppException(HttpStatus.NOT_FOUND, "USER_NOT_FOUND", "User not found"));
+    }
+}
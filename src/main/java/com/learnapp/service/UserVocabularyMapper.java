@@ -0,0 +1,25 @@
+package com.learnapp.service;
+
+import com.learnapp.dto.UserVocabularyResponse;
+import com.learnapp.entities.UserVocabulary;
+
+public final class UserVocabularyMapper {
+
+    private UserVocabularyMapper() {
+    }
+
+    public static UserVocabularyResponse toResponse(UserVocabulary userVocabulary) {
+        return new UserVocabularyResponse(
+                userVocabulary.getVocabularyId(),
+                userVocabulary.getStatus(),
+                userVocabulary.getProgress(),
+                userVocabulary.getLastReviewedAt(),
+                userVocabulary.getEaseFactor(),
+                userVocabulary.getIntervalDays(),
+                userVocabulary.getRepetitions(),
+                userVocabulary.getDueAt(),
+                userVocabulary.getCreatedAt(),
+                userVocabulary.getUpdatedAt()
+        );
+    }
+}
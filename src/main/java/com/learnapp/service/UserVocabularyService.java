@@ -1,18 +1,31 @@
 package com.learnapp.service;
 
-import com.learnapp.entities.User;
+import com.learnapp.dto.CursorPage;
+import com.learnapp.dto.ReviewItemRequest;
+import com.learnapp.entities.UserStreak;
 import com.learnapp.entities.UserVocabStatus;
 import com.learnapp.entities.UserVocabulary;
-import com.learnapp.entities.Vocabulary;
-import com.learnapp.entities.VocabularyStatus;
 import com.learnapp.error.AppException;
-import com.learnapp.repository.UserRepository;
+import com.learnapp.repository.ReviewEvent;
+import com.learnapp.repository.UserLiveness;
+import com.learnapp.repository.UserStreakRepository;
+import com.learnapp.repository.UserVocabCounterRepository;
+import com.learnapp.repository.UserVocabTombstoneRepository;
 import com.learnapp.repository.UserVocabularyRepository;
-import com.learnapp.repository.VocabularyRepository;
+import com.learnapp.repository.UuidBytes;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,44 +34,104 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class UserVocabularyService {
 
+    private static final int MAX_DUE_LIMIT = 100;
+
     private final UserVocabularyRepository userVocabularyRepository;
-    private final VocabularyRepository vocabularyRepository;
-    private final UserRepository userRepository;
+    private final UserLivenessCache userLiveness;
+    private final PageTotalsCache pageTotals;
+    private final ApprovedVocabularyCache approvedVocabularyCache;
+    private final ReviewEventLog reviewEventLog;
+    private final UserVocabCounterRepository counterRepository;
+    private final UserStreakRepository streakRepository;
+    private final LeaderboardService leaderboard;
+    private final UserVocabTombstoneRepository tombstoneRepository;
 
     public UserVocabularyService(
             UserVocabularyRepository userVocabularyRepository,
-            VocabularyRepository vocabularyRepository,
-            UserRepository userRepository
+            UserVocabCounterRepository counterRepository,
+            UserStreakRepository streakRepository,
+            UserLivenessCache userLiveness,
+            PageTotalsCache pageTotals,
+            ApprovedVocabularyCache approvedVocabularyCache,
+            ReviewEventLog reviewEventLog,
+            LeaderboardService leaderboard,
+            UserVocabTombstoneRepository tombstoneRepository
     ) {
         this.userVocabularyRepository = userVocabularyRepository;
-        this.vocabularyRepository = vocabularyRepository;
-        this.userRepository = userRepository;
+        this.counterRepository = counterRepository;
+        this.streakRepository = streakRepository;
+        this.userLiveness = userLiveness;
+        this.pageTotals = pageTotals;
+        this.approvedVocabularyCache = approvedVocabularyCache;
+        this.reviewEventLog = reviewEventLog;
+        this.leaderboard = leaderboard;
+        this.tombstoneRepository = tombstoneRepository;
     }
 
     @Transactional(readOnly = true)
     public Page<UserVocabulary> list(UUID userId, UserVocabStatus status, Pageable pageable) {
         ensureUserNotDeleted(userId);
-        if (status == null) {
-            return userVocabularyRepository.findByUserId(userId, pageable);
-        }
-        return userVocabularyRepository.findByUserIdAndStatus(userId, status, pageable);
+        return pageTotals.page(
+                PageTotalsCache.key("user_vocabularies", userId, status),
+                pageable,
+                () -> status == null
+                        ? userVocabularyRepository.findByUserId(userId, pageable)
+                        : userVocabularyRepository.findByUserIdAndStatus(userId, status, pageable),
+                () -> sliceByUser(userId, status, pageable)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<UserVocabulary> listSlice(UUID userId, UserVocabStatus status, Pageable pageable) {
+        ensureUserNotDeleted(userId);
+        return sliceByUser(userId, status, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<UserVocabulary> scroll(UUID userId, UserVocabStatus status, String cursor, int size) {
+        ensureUserNotDeleted(userId);
+        PageCursor position = PageCursor.decode(cursor);
+        int pageSize = PageCursor.boundedSize(size);
+        List<UserVocabulary> rows = userVocabularyRepository.scrollByUser(
+                userId,
+                status,
+                PageCursor.createdAtOf(position),
+                PageCursor.idOf(position),
+                PageRequest.of(0, pageSize + 1)
+        );
+        return PageCursor.page(rows, pageSize, row -> new PageCursor(row.getCreatedAt(), row.getId()));
+    }
+
+    /**
+     * Returns up to {@code limit} cards due for review, most overdue first.
+     */
+    @Transactional(readOnly = true)
+    public List<UserVocabulary> listDue(UUID userId, int limit) {
+        ensureUserNotDeleted(userId);
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_DUE_LIMIT));
+        return userVocabularyRepository.findDue(userId, LocalDateTime.now(), PageRequest.of(0, boundedLimit));
     }
 
     public UserVocabulary add(UUID userId, UUID vocabularyId) {
         ensureUserNotDeleted(userId);
-        Vocabulary vocabulary = getApprovedVocabulary(vocabularyId);
+        ApprovedVocabulary vocabulary = getApprovedVocabulary(vocabularyId);
 
-        if (userVocabularyRepository.existsByUserIdAndVocabularyId(userId, vocabulary.getId())) {
+        if (userVocabularyRepository.existsByUserIdAndVocabularyId(userId, vocabulary.id())) {
             throw new AppException(HttpStatus.CONFLICT, "USER_VOCAB_EXISTS", "Vocabulary already added");
         }
 
         UserVocabulary userVocabulary = UserVocabulary.builder()
                 .userId(userId)
-                .vocabularyId(vocabulary.getId())
+                .vocabularyId(vocabulary.id())
                 .status(UserVocabStatus.NEW)
                 .progress(0)
+                .dueAt(LocalDateTime.now())
                 .build();
 
+        StatusCounts counts = new StatusCounts();
+        counts.move(null, userVocabulary.getStatus());
+        adjustCounters(userId, counts);
+        tombstoneRepository.deleteByUserIdAndVocabularyId(userId, vocabulary.id());
         return userVocabularyRepository.save(userVocabulary);
     }
 
@@ -67,8 +140,76 @@ public class UserVocabularyService {
             UUID vocabularyId,
             UserVocabStatus status,
             Integer progress,
+            Integer grade,
             LocalDateTime lastReviewedAt
     ) {
+        UserLiveness user = ensureUserNotDeleted(userId);
+        UserVocabulary userVocabulary = userVocabularyRepository.findByUserIdAndVocabularyId(userId, vocabularyId)
+                .orElseThrow(() -> new AppException(
+                        HttpStatus.NOT_FOUND,
+                        "USER_VOCAB_NOT_FOUND",
+                        "User vocabulary not found"
+                ));
+
+        LocalDate today = LocalDate.now(user.zone());
+        ReviewEvent event = applyReview(userVocabulary, status, progress, grade, lastReviewedAt, today);
+        StatusCounts counts = new StatusCounts();
+        counts.move(event.statusBefore(), event.statusAfter());
+        adjustCounters(userId, counts);
+        recordStreak(user, today, 1);
+        leaderboard.record(userId, 1, counts.get(UserVocabStatus.MASTERED), event.mastered() ? 1 : 0);
+        reviewEventLog.record(List.of(event));
+        return userVocabularyRepository.save(userVocabulary);
+    }
+
+    /**
+     * Applies many review results in one transaction: the affected rows are loaded with
+     * a single IN query and written back as one JDBC batch at commit. Items for cards
+     * not in the list, or repeating an earlier item, are reported without failing the
+     * rest of the batch.
+     */
+    public List<ReviewOutcome> reviewBatch(UUID userId, List<ReviewItemRequest> items, LocalDateTime reviewedAt) {
+        UserLiveness user = ensureUserNotDeleted(userId);
+        Set<UUID> vocabularyIds = new HashSet<>();
+        items.forEach(item -> vocabularyIds.add(item.vocabularyId()));
+        Map<UUID, UserVocabulary> cards = new HashMap<>();
+        userVocabularyRepository.findByUserIdAndVocabularyIdIn(userId, vocabularyIds)
+                .forEach(card -> cards.put(card.getVocabularyId(), card));
+
+        Set<UUID> seen = new HashSet<>();
+        List<ReviewOutcome> outcomes = new ArrayList<>(items.size());
+        List<ReviewEvent> events = new ArrayList<>(items.size());
+        StatusCounts counts = new StatusCounts();
+        LocalDate today = LocalDate.now(user.zone());
+        for (ReviewItemRequest item : items) {
+            UserVocabulary card = cards.get(item.vocabularyId());
+            if (!seen.add(item.vocabularyId())) {
+                outcomes.add(ReviewOutcome.failed(item.vocabularyId(), "DUPLICATE_ITEM"));
+            } else if (card == null) {
+                outcomes.add(ReviewOutcome.failed(item.vocabularyId(), "USER_VOCAB_NOT_FOUND"));
+            } else {
+                ReviewEvent event = applyReview(
+                        card,
+                        item.status(),
+                        item.progress(),
+                        item.grade(),
+                        reviewedAt,
+                        today
+                );
+                counts.move(event.statusBefore(), event.statusAfter());
+                events.add(event);
+                outcomes.add(new ReviewOutcome(item.vocabularyId(), card, null));
+            }
+        }
+        adjustCounters(userId, counts);
+        recordStreak(user, today, events.size());
+        int masteredGained = (int) events.stream().filter(ReviewEvent::mastered).count();
+        leaderboard.record(userId, events.size(), counts.get(UserVocabStatus.MASTERED), masteredGained);
+        reviewEventLog.record(events);
+        return outcomes;
+    }
+
+    public void remove(UUID userId, UUID vocabularyId) {
         ensureUserNotDeleted(userId);
         UserVocabulary userVocabulary = userVocabularyRepository.findByUserIdAndVocabularyId(userId, vocabularyId)
                 .orElseThrow(() -> new AppException(
@@ -76,7 +217,26 @@ public class UserVocabularyService {
                         "USER_VOCAB_NOT_FOUND",
                         "User vocabulary not found"
                 ));
+        StatusCounts counts = new StatusCounts();
+        counts.move(userVocabulary.getStatus(), null);
+        adjustCounters(userId, counts);
+        leaderboard.record(userId, 0, counts.get(UserVocabStatus.MASTERED), 0);
+        tombstoneRepository.upsert(UuidBytes.toBytes(userId), UuidBytes.toBytes(vocabularyId), LocalDateTime.now());
+        userVocabularyRepository.delete(userVocabulary);
+    }
 
+    /**
+     * Applies one review to the card and returns the matching {@code review_events} row.
+     */
+    private ReviewEvent applyReview(
+            UserVocabulary userVocabulary,
+            UserVocabStatus status,
+            Integer progress,
+            Integer grade,
+            LocalDateTime lastReviewedAt,
+            LocalDate today
+    ) {
+        UserVocabStatus statusBefore = userVocabulary.getStatus();
         if (status != null) {
             userVocabulary.setStatus(status);
         }
@@ -90,22 +250,61 @@ public class UserVocabularyService {
             userVocabulary.setLastReviewedAt(lastReviewedAt);
         }
 
-        return userVocabularyRepository.save(userVocabulary);
+        if (grade != null) {
+            ReviewScheduler.review(userVocabulary, grade, LocalDateTime.now());
+            if (status == null && userVocabulary.getStatus() == UserVocabStatus.NEW) {
+                userVocabulary.setStatus(UserVocabStatus.LEARNING);
+            }
+        }
+
+        return new ReviewEvent(
+                userVocabulary.getUserId(),
+                userVocabulary.getVocabularyId(),
+                grade,
+                statusBefore,
+                userVocabulary.getStatus(),
+                userVocabulary.getProgress(),
+                lastReviewedAt == null ? LocalDateTime.now() : lastReviewedAt,
+                today
+        );
     }
 
-    public void remove(UUID userId, UUID vocabularyId) {
-        ensureUserNotDeleted(userId);
-        UserVocabulary userVocabulary = userVocabularyRepository.findByUserIdAndVocabularyId(userId, vocabularyId)
-                .orElseThrow(() -> new AppException(
-                        HttpStatus.NOT_FOUND,
-                        "USER_VOCAB_NOT_FOUND",
-                        "User vocabulary not found"
-                ));
-        userVocabularyRepository.delete(userVocabulary);
+    private void adjustCounters(UUID userId, StatusCounts counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        counterRepository.adjust(
+                UuidBytes.toBytes(userId),
+                counts.get(UserVocabStatus.NEW),
+                counts.get(UserVocabStatus.LEARNING),
+                counts.get(UserVocabStatus.MASTERED)
+        );
+    }
+
+    /**
+     * Adds reviews to the user's streak row, locked so concurrent writes for the same
+     * user count every review. Today is taken in the user's time zone.
+     */
+    private void recordStreak(UserLiveness user, LocalDate today, int reviews) {
+        if (reviews == 0) {
+            return;
+        }
+        UserStreak streak = streakRepository.findForUpdate(user.id()).orElseGet(() -> {
+            streakRepository.insertIfAbsent(UuidBytes.toBytes(user.id()));
+            return streakRepository.findForUpdate(user.id()).orElseThrow();
+        });
+        StreakTracker.record(streak, today, reviews, user.dailyGoal());
     }
 
-    private Vocabulary getApprovedVocabulary(UUID vocabularyId) {
-        return vocabularyRepository.findByIdAndStatusAndDeletedAtIsNull(vocabularyId, VocabularyStatus.APPROVED)
+    private Slice<UserVocabulary> sliceByUser(UUID userId, UserVocabStatus status, Pageable pageable) {
+        if (status == null) {
+            return userVocabularyRepository.findSliceByUserId(userId, pageable);
+        }
+        return userVocabularyRepository.findSliceByUserIdAndStatus(userId, status, pageable);
+    }
+
+    private ApprovedVocabulary getApprovedVocabulary(UUID vocabularyId) {
+        return approvedVocabularyCache.get(vocabularyId)
                 .orElseThrow(() -> new AppException(
                         HttpStatus.NOT_FOUND,
                         "VOCAB_NOT_FOUND",
@@ -113,12 +312,10 @@ public class UserVocabularyService {
                 ));
     }
 
-    private void ensureUserNotDeleted(UUID userId) {
-        User user = userRepository.findById(userId)
+    private UserLiveness ensureUserNotDeleted(UUID userId) {
+        return userLiveness.get(userId)
+                .filter(user -> !user.isDeleted())
                 .orElseThrow(() -> new AppException(HttpStatus.NOT_FOUND, "USER_NOT_FOUND", "User not found"));
-        if (user.getDeletedAt() != null) {
-            throw new AppException(HttpStatus.NOT_FOUND, "USER_NOT_FOUND", "User not found");
-        }
     }
 
     private void validateProgress(int progress) {
@@ -126,4 +323,11 @@ public class UserVocabularyService {
             throw new AppException(HttpStatus.BAD_REQUEST, "INVALID_PROGRESS", "Progress must be between 0 and 100");
         }
     }
+
+    public record ReviewOutcome(UUID vocabularyId, UserVocabulary card, String error) {
+
+        static ReviewOutcome failed(UUID vocabularyId, String error) {
+            return new ReviewOutcome(vocabularyId, null, error);
+        }
+    }
 }
@@ -0,0 +1,656 @@
+package com.learnapp.service;
+
+import com.learnapp.dto.FileFormat;
+import com.learnapp.dto.ImportJobResponse;
+import com.learnapp.dto.JobStatus;
+import com.learnapp.dto.VocabularyImportRow;
+import com.learnapp.entities.Topic;
+import com.learnapp.entities.TopicStatus;
+import com.learnapp.entities.TopicVocabulary;
+import com.learnapp.entities.Vocabulary;
+import com.learnapp.entities.VocabularyStatus;
+import com.learnapp.error.AppException;
+import com.learnapp.repository.TopicRepository;
+import com.learnapp.repository.VocabularyRepository;
+import com.learnapp.repository.VocabularyTerm;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Bulk vocabulary import from CSV or NDJSON uploads. The upload is spooled to disk and
+ * processed in the background: rows are stream-parsed, validated, deduplicated against
+ * {@code uk_vocab_term_language} one chunk at a time, and inserted with JDBC batching in
+ * one transaction per chunk. Rows that are not imported are written to a per-job error
+ * file with their line number and reason.
+ */
+@Service
+public class VocabularyImportService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(VocabularyImportService.class);
+
+    private static final String[] ERROR_COLUMNS = {"line", "term", "language", "code", "message"};
+
+    private final VocabularyRepository vocabularyRepository;
+    private final TopicRepository topicRepository;
+    private final VocabularyNgramService ngramService;
+    private final VocabularySuggestionService suggestionService;
+    private final TopicPageCache topicPageCache;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
+    private final Path spoolDir;
+    private final Duration retention;
+    private final int batchSize;
+    private final ThreadPoolTaskExecutor executor;
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public VocabularyImportService(
+            VocabularyRepository vocabularyRepository,
+            TopicRepository topicRepository,
+            VocabularyNgramService ngramService,
+            VocabularySuggestionService suggestionService,
+            TopicPageCache topicPageCache,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            JsonMapper jsonMapper,
+            @Value("${app.vocab.import.spool-dir:${java.io.tmpdir}/learning-app-imports}") String spoolDir,
+            @Value("${app.vocab.import.retention:24h}") Duration retention,
+            @Value("${app.vocab.import.batch-size:1000}") int batchSize,
+            @Value("${app.vocab.import.queue-capacity:5}") int queueCapacity
+    ) {
+        this.vocabularyRepository = vocabularyRepository;
+        this.topicRepository = topicRepository;
+        this.ngramService = ngramService;
+        this.suggestionService = suggestionService;
+        this.topicPageCache = topicPageCache;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jsonMapper = jsonMapper;
+        this.spoolDir = Path.of(spoolDir);
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(1);
+        this.executor.setMaxPoolSize(1);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("vocab-import-");
+        this.executor.initialize();
+    }
+
+    public ImportJobResponse start(UUID requestedBy, MultipartFile file, FileFormat format, VocabularyStatus status) {
+        if (file == null || file.isEmpty()) {
+            throw new AppException(HttpStatus.BAD_REQUEST, "EMPTY_FILE", "File is required");
+        }
+        VocabularyStatus vocabularyStatus = status == null ? VocabularyStatus.APPROVED : status;
+        if (vocabularyStatus == VocabularyStatus.REJECTED) {
+            throw new AppException(HttpStatus.BAD_REQUEST, "INVALID_STATUS", "Status must be APPROVED or PENDING");
+        }
+
+        ImportJob job = new ImportJob(
+                UUID.randomUUID(),
+                format == null ? detectFormat(file.getOriginalFilename()) : format,
+                vocabularyStatus,
+                requestedBy
+        );
+        Path upload = spoolDir.resolve(job.id + ".upload");
+        try {
+            Files.createDirectories(spoolDir);
+            file.transferTo(upload);
+        } catch (IOException ex) {
+            SpoolFiles.deleteQuietly(upload);
+            throw new AppException(HttpStatus.INTERNAL_SERVER_ERROR, "UPLOAD_FAILED", "Could not store upload");
+        }
+
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job, upload));
+        } catch (TaskRejectedException ex) {
+            jobs.remove(job.id);
+            SpoolFiles.deleteQuietly(upload);
+            throw new AppException(HttpStatus.SERVICE_UNAVAILABLE, "IMPORT_QUEUE_FULL", "Too many imports queued");
+        }
+        return job.toResponse();
+    }
+
+    public ImportJobResponse get(UUID id) {
+        return find(id).toResponse();
+    }
+
+    /**
+     * Returns the error file of a finished job.
+     */
+    public Path errorFile(UUID id) {
+        ImportJob job = find(id);
+        if (job.status == JobStatus.QUEUED || job.status == JobStatus.RUNNING) {
+            throw new AppException(HttpStatus.CONFLICT, "IMPORT_NOT_READY", "Import is not finished");
+        }
+        if (job.errorFile == null) {
+            throw new AppException(HttpStatus.NOT_FOUND, "IMPORT_ERRORS_NOT_FOUND", "Import has no rejected rows");
+        }
+        return job.errorFile;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private ImportJob find(UUID id) {
+        ImportJob job = jobs.get(id);
+        if (job == null) {
+            throw new AppException(HttpStatus.NOT_FOUND, "IMPORT_NOT_FOUND", "Import not found");
+        }
+        return job;
+    }
+
+    private void run(ImportJob job, Path upload) {
+        job.status = JobStatus.RUNNING;
+        Path errorPath = spoolDir.resolve(job.id + "-errors.csv");
+        try {
+            process(job, upload, errorPath);
+            job.errorFile = Files.exists(errorPath) ? errorPath : null;
+            job.completedAt = LocalDateTime.now();
+            job.status = JobStatus.COMPLETED;
+            logger.info(
+                    "Vocabulary import {} finished: rows={}, inserted={}, duplicates={}, failed={}",
+                    job.id, job.rows, job.inserted, job.duplicates, job.failed
+            );
+        } catch (IOException | RuntimeException ex) {
+            logger.error("Vocabulary import {} failed after {} rows", job.id, job.rows, ex);
+            job.error = ex instanceof ImportFormatException ? ex.getMessage() : "Import failed";
+            job.errorFile = Files.exists(errorPath) ? errorPath : null;
+            job.completedAt = LocalDateTime.now();
+            job.status = JobStatus.FAILED;
+        } finally {
+            SpoolFiles.deleteQuietly(upload);
+        }
+    }
+
+    private void process(ImportJob job, Path upload, Path errorPath) throws IOException {
+        try (InputStream in = Files.newInputStream(upload);
+             RowSource source = job.format == FileFormat.CSV ? new CsvRowSource(in) : new NdjsonRowSource(in);
+             ErrorFile errors = new ErrorFile(errorPath)) {
+            Map<UUID, String> topicErrors = new HashMap<>();
+            List<Candidate> chunk = new ArrayList<>(batchSize);
+            ParsedRow parsed;
+            while ((parsed = source.next()) != null) {
+                job.rows++;
+                Candidate candidate = validate(parsed, errors, job);
+                if (candidate == null) {
+                    continue;
+                }
+                chunk.add(candidate);
+                if (chunk.size() >= batchSize) {
+                    importChunk(job, chunk, topicErrors, errors);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(job, chunk, topicErrors, errors);
+            }
+        }
+    }
+
+    private Candidate validate(ParsedRow parsed, ErrorFile errors, ImportJob job) {
+        if (parsed.errorCode() != null) {
+            errors.reject(parsed.line(), parsed.row(), parsed.errorCode(), parsed.errorMessage());
+            job.failed++;
+            return null;
+        }
+        VocabularyImportRow row = parsed.row();
+        String rejection = null;
+        String message = null;
+        if (isBlank(row.term())) {
+            rejection = "INVALID_TERM";
+            message = "Term is required";
+        } else if (isBlank(row.definition())) {
+            rejection = "INVALID_DEFINITION";
+            message = "Definition is required";
+        } else if (isBlank(row.language())) {
+            rejection = "INVALID_LANGUAGE";
+            message = "Language is required";
+        } else if (tooLong(row.term(), 255) || tooLong(row.language(), 10)
+                || tooLong(row.phonetic(), 100) || tooLong(row.partOfSpeech(), 50)) {
+            rejection = "FIELD_TOO_LONG";
+            message = "A field exceeds its maximum length";
+        }
+        if (rejection != null) {
+            errors.reject(parsed.line(), row, rejection, message);
+            job.failed++;
+            return null;
+        }
+        return new Candidate(
+                parsed.line(),
+                row,
+                row.term().trim().toLowerCase(Locale.ROOT),
+                row.language().trim().toLowerCase(Locale.ROOT)
+        );
+    }
+
+    private void importChunk(ImportJob job, List<Candidate> chunk, Map<UUID, String> topicErrors, ErrorFile errors) {
+        Map<String, Candidate> unique = new LinkedHashMap<>();
+        for (Candidate candidate : chunk) {
+            Candidate first = unique.putIfAbsent(candidate.key(), candidate);
+            if (first != null) {
+                errors.reject(candidate.line(), candidate.row(), "VOCAB_EXISTS", "Duplicate of line " + first.line());
+                job.duplicates++;
+            }
+        }
+
+        Set<String> terms = new HashSet<>();
+        unique.values().forEach(candidate -> terms.add(candidate.termNormalized()));
+        Set<String> existing = new HashSet<>();
+        for (VocabularyTerm term : vocabularyRepository.findTermsByTermNormalizedIn(terms)) {
+            existing.add(term.language() + "\u0000" + term.termNormalized());
+        }
+        resolveTopics(unique.values(), topicErrors);
+
+        List<Candidate> accepted = new ArrayList<>(unique.size());
+        for (Candidate candidate : unique.values()) {
+            if (existing.contains(candidate.key())) {
+                errors.reject(candidate.line(), candidate.row(), "VOCAB_EXISTS", "Vocabulary already exists");
+                job.duplicates++;
+                continue;
+            }
+            String topicError = topicErrorOf(candidate, topicErrors);
+            if (topicError != null) {
+                errors.reject(
+                        candidate.line(),
+                        candidate.row(),
+                        topicError,
+                        "TOPIC_INACTIVE".equals(topicError) ? "Topic is inactive" : "Topic not found"
+                );
+                job.failed++;
+                continue;
+            }
+            accepted.add(candidate);
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(accepted, job));
+            job.inserted += accepted.size();
+        } catch (RuntimeException ex) {
+            // A concurrent writer may have claimed a term since the check; retry row by row.
+            logger.warn("Vocabulary import {} chunk failed, retrying rows individually", job.id, ex);
+            for (Candidate candidate : accepted) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(List.of(candidate), job));
+                    job.inserted++;
+                } catch (RuntimeException rowEx) {
+                    errors.reject(candidate.line(), candidate.row(), "INSERT_FAILED", "Could not insert row");
+                    job.failed++;
+                }
+            }
+        }
+    }
+
+    private void insert(List<Candidate> candidates, ImportJob job) {
+        List<Vocabulary> vocabularies = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            VocabularyImportRow row = candidate.row();
+            Vocabulary vocabulary = Vocabulary.builder()
+                    .term(row.term().trim())
+                    .termNormalized(candidate.termNormalized())
+                    .definition(row.definition().trim())
+                    .example(trimToNull(row.example()))
+                    .phonetic(trimToNull(row.phonetic()))
+                    .partOfSpeech(trimToNull(row.partOfSpeech()))
+                    .language(candidate.language())
+                    .status(job.vocabularyStatus)
+                    .approvedAt(job.vocabularyStatus == VocabularyStatus.APPROVED ? LocalDateTime.now() : null)
+                    .createdBy(job.requestedBy)
+                    .build();
+            entityManager.persist(vocabulary);
+            vocabularies.add(vocabulary);
+            for (UUID topicId : candidate.topicIds()) {
+                entityManager.persist(TopicVocabulary.builder()
+                        .topicId(topicId)
+                        .vocabularyId(vocabulary.getId())
+                        .build());
+            }
+        }
+        ngramService.index(vocabularies);
+
+        if (job.vocabularyStatus == VocabularyStatus.APPROVED) {
+            List<VocabularyTerm> approved = candidates.stream()
+                    .map(candidate -> new VocabularyTerm(candidate.language(), candidate.termNormalized()))
+                    .toList();
+            TransactionCallbacks.afterCommit(() -> approved.forEach(
+                    term -> suggestionService.add(term.language(), term.termNormalized())
+            ));
+            Map<UUID, Integer> linked = new HashMap<>();
+            candidates.forEach(candidate -> candidate.topicIds().forEach(
+                    topicId -> linked.merge(topicId, 1, Integer::sum)
+            ));
+            // One update per distinct delta rather than one per topic.
+            linked.entrySet().stream()
+                    .collect(Collectors.groupingBy(
+                            Map.Entry::getValue,
+                            Collectors.mapping(Map.Entry::getKey, Collectors.toList())
+                    ))
+                    .forEach((delta, topicIds) -> topicRepository.adjustVocabCount(topicIds, delta));
+            if (!linked.isEmpty()) {
+                topicPageCache.invalidate();
+            }
+        }
+    }
+
+    private void resolveTopics(Iterable<Candidate> candidates, Map<UUID, String> topicErrors) {
+        Set<UUID> unknown = new HashSet<>();
+        for (Candidate candidate : candidates) {
+            for (UUID topicId : candidate.topicIds()) {
+                if (!topicErrors.containsKey(topicId)) {
+                    unknown.add(topicId);
+                }
+            }
+        }
+        if (unknown.isEmpty()) {
+            return;
+        }
+        for (Topic topic : topicRepository.findAllById(unknown)) {
+            String error = null;
+            if (topic.getDeletedAt() != null) {
+                error = "TOPIC_NOT_FOUND";
+            } else if (topic.getStatus() != TopicStatus.ACTIVE) {
+                error = "TOPIC_INACTIVE";
+            }
+            topicErrors.put(topic.getId(), error);
+            unknown.remove(topic.getId());
+        }
+        unknown.forEach(topicId -> topicErrors.put(topicId, "TOPIC_NOT_FOUND"));
+    }
+
+    private String topicErrorOf(Candidate candidate, Map<UUID, String> topicErrors) {
+        for (UUID topicId : candidate.topicIds()) {
+            String error = topicErrors.get(topicId);
+            if (error != null) {
+                return error;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Drops finished import jobs and their error files once they are past the retention period.
+     */
+    @Scheduled(fixedDelayString = "${app.vocab.import.prune-interval:15m}")
+    public void pruneExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> {
+            boolean expired = job.completedAt != null && job.completedAt.isBefore(cutoff);
+            if (expired && job.errorFile != null) {
+                SpoolFiles.deleteQuietly(job.errorFile);
+            }
+            return expired;
+        });
+        SpoolFiles.pruneOlderThan(spoolDir, retention);
+    }
+
+    private static FileFormat detectFormat(String fileName) {
+        String name = fileName == null ? "" : fileName.toLowerCase(Locale.ROOT);
+        return name.endsWith(".ndjson") || name.endsWith(".jsonl") ? FileFormat.NDJSON : FileFormat.CSV;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static boolean tooLong(String value, int maxLength) {
+        return value != null && value.trim().length() > maxLength;
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private record ParsedRow(int line, VocabularyImportRow row, String errorCode, String errorMessage) {
+
+        static ParsedRow invalid(int line, String message) {
+            return new ParsedRow(line, null, "INVALID_ROW", message);
+        }
+    }
+
+    private record Candidate(int line, VocabularyImportRow row, String termNormalized, String language) {
+
+        String key() {
+            return language + "\u0000" + termNormalized;
+        }
+
+        Set<UUID> topicIds() {
+            return row.topicIds() == null ? Set.of() : new LinkedHashSet<>(row.topicIds());
+        }
+    }
+
+    private interface RowSource extends Closeable {
+
+        ParsedRow next() throws IOException;
+    }
+
+    private static final class CsvRowSource implements RowSource {
+
+        private final CsvReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        private CsvRowSource(InputStream in) throws IOException {
+            this.reader = new CsvReader(in);
+            List<String> header = reader.next();
+            if (header == null) {
+                throw new ImportFormatException("File is empty");
+            }
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            for (String required : List.of("term", "definition", "language")) {
+                if (!columns.containsKey(required)) {
+                    throw new ImportFormatException("Missing column " + required);
+                }
+            }
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            List<String> record;
+            do {
+                record = reader.next();
+                if (record == null) {
+                    return null;
+                }
+            } while (record.size() == 1 && record.get(0).isBlank());
+
+            int line = reader.recordLine();
+            List<UUID> topicIds = new ArrayList<>();
+            String topics = column(record, "topicids");
+            if (topics != null) {
+                for (String topicId : topics.split(";")) {
+                    if (topicId.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        topicIds.add(UUID.fromString(topicId.trim()));
+                    } catch (IllegalArgumentException ex) {
+                        return ParsedRow.invalid(line, "Invalid topic id " + topicId.trim());
+                    }
+                }
+            }
+            return new ParsedRow(line, new VocabularyImportRow(
+                    column(record, "term"),
+                    column(record, "definition"),
+                    column(record, "example"),
+                    column(record, "phonetic"),
+                    column(record, "partofspeech"),
+                    column(record, "language"),
+                    topicIds
+            ), null, null);
+        }
+
+        private String column(List<String> record, String name) {
+            Integer index = columns.get(name);
+            if (index == null || index >= record.size()) {
+                return null;
+            }
+            String value = record.get(index);
+            return value.isBlank() ? null : value;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private final class NdjsonRowSource implements RowSource {
+
+        private final BufferedReader reader;
+        private int lineNumber;
+
+        private NdjsonRowSource(InputStream in) {
+            this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 65536);
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                lineNumber++;
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            try {
+                return new ParsedRow(lineNumber, jsonMapper.readValue(line, VocabularyImportRow.class), null, null);
+            } catch (JacksonException ex) {
+                return ParsedRow.invalid(lineNumber, "Malformed JSON");
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * Lazily created CSV of rejected rows.
+     */
+    private static final class ErrorFile implements Closeable {
+
+        private final Path path;
+        private CsvWriter writer;
+
+        private ErrorFile(Path path) {
+            this.path = path;
+        }
+
+        void reject(int line, VocabularyImportRow row, String code, String message) {
+            if (writer == null) {
+                try {
+                    writer = new CsvWriter(Files.newOutputStream(path));
+                } catch (IOException ex) {
+                    throw new IllegalStateException("Could not create import error file", ex);
+                }
+                writer.header(ERROR_COLUMNS);
+            }
+            writer.row(line, row == null ? null : row.term(), row == null ? null : row.language(), code, message);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+
+    private static final class ImportFormatException extends IOException {
+
+        private ImportFormatException(String message) {
+            super(message);
+        }
+    }
+
+    private static final class ImportJob {
+
+        private final UUID id;
+        private final FileFormat format;
+        private final VocabularyStatus vocabularyStatus;
+        private final UUID requestedBy;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private volatile JobStatus status = JobStatus.QUEUED;
+        private volatile long rows;
+        private volatile long inserted;
+        private volatile long duplicates;
+        private volatile long failed;
+        private volatile String error;
+        private volatile Path errorFile;
+        private volatile LocalDateTime completedAt;
+
+        private ImportJob(UUID id, FileFormat format, VocabularyStatus vocabularyStatus, UUID requestedBy) {
+            this.id = id;
+            this.format = format;
+            this.vocabularyStatus = vocabularyStatus;
+            this.requestedBy = requestedBy;
+        }
+
+        private ImportJobResponse toResponse() {
+            return new ImportJobResponse(
+                    id,
+                    format,
+                    vocabularyStatus,
+                    status,
+                    rows,
+                    inserted,
+                    duplicates,
+                    failed,
+                    errorFile != null,
+                    error,
+                    requestedBy,
+                    createdAt,
+                    completedAt
+            );
+        }
+    }
+}
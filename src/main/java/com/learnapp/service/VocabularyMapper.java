@@ -0,0 +1,44 @@
+package com.learnapp.service;
+
+import com.learnapp.dto.SyncVocabularyResponse;
+import com.learnapp.dto.VocabularyResponse;
+import com.learnapp.entities.Vocabulary;
+import java.util.List;
+import java.util.UUID;
+
+public final class VocabularyMapper {
+
+    private VocabularyMapper() {
+    }
+
+    public static VocabularyResponse toResponse(Vocabulary vocabulary) {
+        return new VocabularyResponse(
+                vocabulary.getId(),
+                vocabulary.getTerm(),
+                vocabulary.getDefinition(),
+                vocabulary.getExample(),
+                vocabulary.getPhonetic(),
+                vocabulary.getPartOfSpeech(),
+                vocabulary.getLanguage(),
+                vocabulary.getStatus(),
+                vocabulary.getCreatedBy(),
+                vocabulary.getCreatedAt()
+        );
+    }
+
+    public static SyncVocabularyResponse toSyncResponse(Vocabulary vocabulary, List<UUID> topicIds) {
+        return new SyncVocabularyResponse(
+                vocabulary.getId(),
+                vocabulary.getTerm(),
+                vocabulary.getDefinition(),
+                vocabulary.getExample(),
+                vocabulary.getPhonetic(),
+                vocabulary.getPartOfSpeech(),
+                vocabulary.getLanguage(),
+                vocabulary.getStatus(),
+                vocabulary.getCreatedBy(),
+                vocabulary.getCreatedAt(),
+                topicIds
+        );
+    }
+}
@@ -0,0 +1,96 @@
+package com.learnapp.service;
+
+import com.learnapp.entities.Vocabulary;
+import com.learnapp.repository.VocabularyRepository;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Fills {@code vocabulary_ngrams} for vocabularies written before the table existed.
+ * Walks {@code vocabularies} in id order, one short transaction per batch, and skips
+ * rows that are already indexed, so it is safe to re-run at any time. Runs on demand
+ * through {@code POST /admin/vocab/ngrams/backfill}, or at startup when
+ * {@code app.vocab.ngram.backfill-on-startup} is set.
+ */
+@Component
+public class VocabularyNgramBackfillJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(VocabularyNgramBackfillJob.class);
+
+    private final VocabularyRepository vocabularyRepository;
+    private final VocabularyNgramService ngramService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor executor = new SimpleAsyncTaskExecutor("vocab-ngram-backfill-");
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final boolean runOnStartup;
+    private final int batchSize;
+
+    public VocabularyNgramBackfillJob(
+            VocabularyRepository vocabularyRepository,
+            VocabularyNgramService ngramService,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.vocab.ngram.backfill-on-startup:false}") boolean runOnStartup,
+            @Value("${app.vocab.ngram.backfill-batch-size:500}") int batchSize
+    ) {
+        this.vocabularyRepository = vocabularyRepository;
+        this.ngramService = ngramService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.runOnStartup = runOnStartup;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (runOnStartup) {
+            start();
+        }
+    }
+
+    /**
+     * Starts a backfill in the background. Returns {@code false} if one is already running.
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        executor.execute(() -> {
+            try {
+                run();
+            } catch (RuntimeException ex) {
+                logger.error("Vocabulary n-gram backfill failed", ex);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    private void run() {
+        UUID afterId = null;
+        long scanned = 0;
+        long indexed = 0;
+        while (true) {
+            List<Vocabulary> batch = vocabularyRepository.findBatchAfter(afterId, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            Integer count = transactionTemplate.execute(status -> ngramService.indexMissing(batch));
+            indexed += count == null ? 0 : count;
+            scanned += batch.size();
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+        logger.info("Vocabulary n-gram backfill finished: scanned={}, indexed={}", scanned, indexed);
+    }
+}
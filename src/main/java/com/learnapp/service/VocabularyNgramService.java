@@ -0,0 +1,75 @@
+package com.learnapp.service;
+
+import com.learnapp.entities.Vocabulary;
+import com.learnapp.entities.VocabularyNgram;
+import com.learnapp.repository.Trigrams;
+import com.learnapp.repository.VocabularyNgramJdbcRepository;
+import com.learnapp.repository.VocabularyNgramRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maintains the {@code vocabulary_ngrams} posting lists. Terms never change after a
+ * vocabulary is created, so rows only need writing once per vocabulary.
+ */
+@Service
+@Transactional
+public class VocabularyNgramService {
+
+    private final VocabularyNgramRepository ngramRepository;
+    private final VocabularyNgramJdbcRepository ngramJdbcRepository;
+
+    public VocabularyNgramService(
+            VocabularyNgramRepository ngramRepository,
+            VocabularyNgramJdbcRepository ngramJdbcRepository
+    ) {
+        this.ngramRepository = ngramRepository;
+        this.ngramJdbcRepository = ngramJdbcRepository;
+    }
+
+    public void index(Collection<Vocabulary> vocabularies) {
+        List<VocabularyNgram> rows = postings(vocabularies);
+        if (!rows.isEmpty()) {
+            ngramRepository.saveAll(rows);
+        }
+    }
+
+    /**
+     * Indexes the vocabularies in {@code batch} that have no posting rows yet and
+     * returns how many of them got posting rows.
+     */
+    public int indexMissing(List<Vocabulary> batch) {
+        Set<UUID> indexed = new HashSet<>(ngramRepository.findIndexedVocabularyIds(
+                batch.stream().map(Vocabulary::getId).toList()
+        ));
+        List<Vocabulary> missing = batch.stream()
+                .filter(vocabulary -> !indexed.contains(vocabulary.getId()))
+                .toList();
+        // Another writer may index one of these between the check and the insert.
+        List<VocabularyNgram> rows = postings(missing);
+        if (!rows.isEmpty()) {
+            ngramJdbcRepository.insertIgnore(rows);
+        }
+        // Terms shorter than a trigram have no postings and stay unindexed on every run.
+        return (int) rows.stream().map(VocabularyNgram::getVocabularyId).distinct().count();
+    }
+
+    private static List<VocabularyNgram> postings(Collection<Vocabulary> vocabularies) {
+        List<VocabularyNgram> rows = new ArrayList<>();
+        for (Vocabulary vocabulary : vocabularies) {
+            for (String gram : Trigrams.of(vocabulary.getTermNormalized())) {
+                rows.add(VocabularyNgram.builder()
+                        .gram(gram)
+                        .vocabularyId(vocabulary.getId())
+                        .build());
+            }
+        }
+        return rows;
+    }
+}
@@ -1,5 +1,8 @@
 package com.learnapp.service;
 
+import com.learnapp.dto.CursorPage;
+import com.learnapp.dto.VocabularyResponse;
+import com.learnapp.dto.VocabularySearchMode;
 import com.learnapp.entities.Topic;
 import com.learnapp.entities.TopicStatus;
 import com.learnapp.entities.TopicVocabulary;
@@ -9,16 +12,27 @@ import com.learnapp.error.AppException;
 import com.learnapp.repository.TopicRepository;
 import com.learnapp.repository.TopicVocabularyRepository;
 import com.learnapp.repository.VocabularyRepository;
+import com.learnapp.repository.VocabularySpecifications;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -28,15 +42,33 @@ public class VocabularyService {
     private final VocabularyRepository vocabularyRepository;
     private final TopicRepository topicRepository;
     private final TopicVocabularyRepository topicVocabularyRepository;
+    private final VocabularySuggestionService suggestionService;
+    private final VocabularyNgramService ngramService;
+    private final PageTotalsCache pageTotals;
+    private final ApprovedVocabularyCache approvedCache;
+    private final TopicPageCache topicPageCache;
+    private final EntityManager entityManager;
 
     public VocabularyService(
             VocabularyRepository vocabularyRepository,
             TopicRepository topicRepository,
-            TopicVocabularyRepository topicVocabularyRepository
+            TopicVocabularyRepository topicVocabularyRepository,
+            VocabularySuggestionService suggestionService,
+            VocabularyNgramService ngramService,
+            PageTotalsCache pageTotals,
+            ApprovedVocabularyCache approvedCache,
+            TopicPageCache topicPageCache,
+            EntityManager entityManager
     ) {
         this.vocabularyRepository = vocabularyRepository;
         this.topicRepository = topicRepository;
         this.topicVocabularyRepository = topicVocabularyRepository;
+        this.suggestionService = suggestionService;
+        this.ngramService = ngramService;
+        this.pageTotals = pageTotals;
+        this.approvedCache = approvedCache;
+        this.topicPageCache = topicPageCache;
+        this.entityManager = entityManager;
     }
 
     @Transactional(readOnly = true)
@@ -45,79 +77,76 @@ public class VocabularyService {
             UUID topicId,
             String language,
             VocabularyStatus status,
+            VocabularySearchMode mode,
             Pageable pageable
     ) {
-        String normalizedQuery = normalizeTerm(query);
-        String normalizedLanguage = normalizeLanguage(language);
-
-        if (topicId != null) {
-            return vocabularyRepository.searchByTopic(
-                    topicId,
-                    status,
-                    normalizedLanguage,
-                    normalizedQuery,
-                    pageable
-            );
-        }
-
-        if (status != null && normalizedQuery != null && normalizedLanguage != null) {
-            return vocabularyRepository.findByStatusAndDeletedAtIsNullAndLanguageAndTermNormalizedContainingIgnoreCase(
-                    status,
-                    normalizedLanguage,
-                    normalizedQuery,
-                    pageable
-            );
-        }
-
-        if (status != null && normalizedQuery != null) {
-            return vocabularyRepository.findByStatusAndDeletedAtIsNullAndTermNormalizedContainingIgnoreCase(
-                    status,
-                    normalizedQuery,
-                    pageable
-            );
-        }
-
-        if (status != null && normalizedLanguage != null) {
-            return vocabularyRepository.findByStatusAndDeletedAtIsNullAndLanguage(
-                    status,
-                    normalizedLanguage,
-                    pageable
-            );
-        }
-
-        if (status != null) {
-            return vocabularyRepository.findByStatusAndDeletedAtIsNull(status, pageable);
-        }
-
-        if (normalizedQuery != null && normalizedLanguage != null) {
-            return vocabularyRepository.findByDeletedAtIsNullAndLanguageAndTermNormalizedContainingIgnoreCase(
-                    normalizedLanguage,
-                    normalizedQuery,
-                    pageable
-            );
-        }
+        Specification<Vocabulary> specification = searchSpecification(query, topicId, language, status, mode);
+        return pageTotals.page(
+                PageTotalsCache.key(
+                        "vocabularies",
+                        normalizeTerm(query),
+                        topicId,
+                        normalizeLanguage(language),
+                        status,
+                        mode == null ? VocabularySearchMode.PREFIX : mode
+                ),
+                pageable,
+                () -> vocabularyRepository.findAll(specification, pageable),
+                () -> sliceBy(specification, pageable)
+        );
+    }
 
-        if (normalizedQuery != null) {
-            return vocabularyRepository.findByDeletedAtIsNullAndTermNormalizedContainingIgnoreCase(
-                    normalizedQuery,
-                    pageable
-            );
-        }
+    @Transactional(readOnly = true)
+    public Slice<Vocabulary> searchApprovedSlice(
+            String query,
+            UUID topicId,
+            String language,
+            VocabularyStatus status,
+            VocabularySearchMode mode,
+            Pageable pageable
+    ) {
+        return sliceBy(searchSpecification(query, topicId, language, status, mode), pageable);
+    }
 
-        if (normalizedLanguage != null) {
-            return vocabularyRepository.findByDeletedAtIsNullAndLanguage(
-                    normalizedLanguage,
-                    pageable
-            );
-        }
+    @Transactional(readOnly = true)
+    public CursorPage<Vocabulary> scrollApproved(
+            String query,
+            UUID topicId,
+            String language,
+            VocabularyStatus status,
+            VocabularySearchMode mode,
+            String cursor,
+            int size
+    ) {
+        PageCursor position = PageCursor.decode(cursor);
+        int pageSize = PageCursor.boundedSize(size);
+        Specification<Vocabulary> specification = searchSpecification(query, topicId, language, status, mode)
+                .and(VocabularySpecifications.createdBefore(PageCursor.createdAtOf(position), PageCursor.idOf(position)));
+        List<Vocabulary> rows = vocabularyRepository.<Vocabulary, List<Vocabulary>>findBy(specification, fluent -> fluent
+                .sortBy(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")))
+                .limit(pageSize + 1)
+                .all());
+        return PageCursor.page(rows, pageSize, vocabulary -> new PageCursor(vocabulary.getCreatedAt(), vocabulary.getId()));
+    }
 
-        return vocabularyRepository.findByDeletedAtIsNull(pageable);
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public ApprovedVocabulary getApproved(UUID id) {
+        return approvedCache.get(id)
+                .orElseThrow(() -> new AppException(HttpStatus.NOT_FOUND, "VOCAB_NOT_FOUND", "Vocabulary not found"));
     }
 
+    /**
+     * Streams every matching vocabulary to {@code sink} from a forward-only cursor,
+     * detaching rows as they are consumed.
+     */
     @Transactional(readOnly = true)
-    public Vocabulary getApproved(UUID id) {
-        return vocabularyRepository.findByIdAndStatusAndDeletedAtIsNull(id, VocabularyStatus.APPROVED)
-                .orElseThrow(() -> new AppException(HttpStatus.NOT_FOUND, "VOCAB_NOT_FOUND", "Vocabulary not found"));
+    public void exportVocabularies(String language, VocabularyStatus status, Consumer<VocabularyResponse> sink) {
+        try (Stream<Vocabulary> vocabularies = vocabularyRepository.streamVocabularies(normalizeLanguage(language), status)) {
+            vocabularies.forEach(vocabulary -> {
+                sink.accept(VocabularyMapper.toResponse(vocabulary));
+                entityManager.detach(vocabulary);
+            });
+        }
     }
 
     public Vocabulary createContribution(
@@ -159,43 +188,115 @@ public class VocabularyService {
                 .createdBy(userId)
                 .build();
 
+        Set<UUID> linkedTopicIds = topicIds == null ? Set.of() : requireActiveTopics(topicIds);
         vocabulary = vocabularyRepository.save(vocabulary);
+        ngramService.index(List.of(vocabulary));
 
-        if (topicIds != null && !topicIds.isEmpty()) {
-            List<TopicVocabulary> links = buildTopicLinks(vocabulary.getId(), topicIds);
-            topicVocabularyRepository.saveAll(links);
+        if (!linkedTopicIds.isEmpty()) {
+            topicVocabularyRepository.saveAll(buildTopicLinks(vocabulary.getId(), linkedTopicIds));
         }
 
         return vocabulary;
     }
 
     public Vocabulary approve(UUID id) {
-        Vocabulary vocabulary = vocabularyRepository.findByIdAndDeletedAtIsNull(id)
-                .orElseThrow(() -> new AppException(HttpStatus.NOT_FOUND, "VOCAB_NOT_FOUND", "Vocabulary not found"));
-        vocabulary.setStatus(VocabularyStatus.APPROVED);
-        return vocabularyRepository.save(vocabulary);
+        Vocabulary vocabulary = changeStatus(id, VocabularyStatus.APPROVED);
+        String language = vocabulary.getLanguage();
+        String termNormalized = vocabulary.getTermNormalized();
+        UUID vocabularyId = vocabulary.getId();
+        TransactionCallbacks.afterCommit(() -> {
+            suggestionService.add(language, termNormalized);
+            approvedCache.invalidate(vocabularyId);
+        });
+        return vocabulary;
     }
 
     public Vocabulary reject(UUID id) {
-        Vocabulary vocabulary = vocabularyRepository.findByIdAndDeletedAtIsNull(id)
+        Vocabulary vocabulary = changeStatus(id, VocabularyStatus.REJECTED);
+        String language = vocabulary.getLanguage();
+        String termNormalized = vocabulary.getTermNormalized();
+        UUID vocabularyId = vocabulary.getId();
+        TransactionCallbacks.afterCommit(() -> {
+            suggestionService.remove(language, termNormalized);
+            approvedCache.invalidate(vocabularyId);
+        });
+        return vocabulary;
+    }
+
+    /**
+     * Moves the vocabulary to {@code status} under a row lock, so two moderators acting on the
+     * same entry cannot both count it in or out of the topic totals.
+     */
+    private Vocabulary changeStatus(UUID id, VocabularyStatus status) {
+        Vocabulary vocabulary = vocabularyRepository.findForUpdate(id)
                 .orElseThrow(() -> new AppException(HttpStatus.NOT_FOUND, "VOCAB_NOT_FOUND", "Vocabulary not found"));
-        vocabulary.setStatus(VocabularyStatus.REJECTED);
-        return vocabularyRepository.save(vocabulary);
-    }
-
-    private List<TopicVocabulary> buildTopicLinks(UUID vocabularyId, List<UUID> topicIds) {
-        Set<UUID> uniqueTopicIds = new HashSet<>(topicIds);
-        List<TopicVocabulary> links = new ArrayList<>();
-        for (UUID topicId : uniqueTopicIds) {
-            Topic topic = topicRepository.findByIdAndDeletedAtIsNull(topicId)
-                    .orElseThrow(() -> new AppException(
-                            HttpStatus.NOT_FOUND,
-                            "TOPIC_NOT_FOUND",
-                            "Topic not found"
-                    ));
-            if (topic.getStatus() != TopicStatus.ACTIVE) {
-                throw new AppException(HttpStatus.BAD_REQUEST, "TOPIC_INACTIVE", "Topic is inactive");
+        int delta = vocabCountDelta(vocabulary.getStatus(), status);
+        vocabulary.setStatus(status);
+        if (status == VocabularyStatus.APPROVED && vocabulary.getApprovedAt() == null) {
+            vocabulary.setApprovedAt(LocalDateTime.now());
+        }
+        vocabulary = vocabularyRepository.save(vocabulary);
+        updateLinkedTopics(id, delta);
+        return vocabulary;
+    }
+
+    /**
+     * Change in the topics' vocabulary count when a vocabulary moves between statuses: only
+     * approved entries are counted.
+     */
+    static int vocabCountDelta(VocabularyStatus before, VocabularyStatus after) {
+        return (after == VocabularyStatus.APPROVED ? 1 : 0) - (before == VocabularyStatus.APPROVED ? 1 : 0);
+    }
+
+    /**
+     * Bumps the catalog version of every topic the vocabulary is linked to and moves their
+     * vocabulary counts by {@code delta}.
+     */
+    private void updateLinkedTopics(UUID vocabularyId, int delta) {
+        List<UUID> topicIds = topicVocabularyRepository.findTopicIdsByVocabularyId(vocabularyId);
+        if (topicIds.isEmpty()) {
+            return;
+        }
+        if (delta == 0) {
+            topicRepository.incrementCatalogVersion(topicIds);
+            return;
+        }
+        topicRepository.adjustVocabCount(topicIds, delta);
+        topicPageCache.invalidate();
+    }
+
+    /**
+     * Loads the topics in one query and rejects the contribution if any of them is missing,
+     * deleted or inactive, listing every offending id in {@code details.topicErrors}.
+     */
+    private Set<UUID> requireActiveTopics(List<UUID> topicIds) {
+        Set<UUID> uniqueTopicIds = new LinkedHashSet<>(topicIds);
+        if (uniqueTopicIds.isEmpty()) {
+            return uniqueTopicIds;
+        }
+        Map<UUID, String> topicErrors = new LinkedHashMap<>();
+        uniqueTopicIds.forEach(topicId -> topicErrors.put(topicId, "TOPIC_NOT_FOUND"));
+        for (Topic topic : topicRepository.findAllByIdInAndDeletedAtIsNull(uniqueTopicIds)) {
+            if (topic.getStatus() == TopicStatus.ACTIVE) {
+                topicErrors.remove(topic.getId());
+            } else {
+                topicErrors.put(topic.getId(), "TOPIC_INACTIVE");
             }
+        }
+        if (topicErrors.isEmpty()) {
+            return uniqueTopicIds;
+        }
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("topicErrors", topicErrors);
+        if (topicErrors.containsValue("TOPIC_NOT_FOUND")) {
+            throw new AppException(HttpStatus.NOT_FOUND, "TOPIC_NOT_FOUND", "Topic not found", details);
+        }
+        throw new AppException(HttpStatus.BAD_REQUEST, "TOPIC_INACTIVE", "Topic is inactive", details);
+    }
+
+    private List<TopicVocabulary> buildTopicLinks(UUID vocabularyId, Set<UUID> topicIds) {
+        List<TopicVocabulary> links = new ArrayList<>(topicIds.size());
+        for (UUID topicId : topicIds) {
             links.add(TopicVocabulary.builder()
                     .topicId(topicId)
                     .vocabularyId(vocabularyId)
@@ -204,6 +305,40 @@ public class VocabularyService {
         return links;
     }
 
+    private Slice<Vocabulary> sliceBy(Specification<Vocabulary> specification, Pageable pageable) {
+        return vocabularyRepository.<Vocabulary, Slice<Vocabulary>>findBy(
+                specification,
+                fluent -> fluent.slice(pageable)
+        );
+    }
+
+    private Specification<Vocabulary> searchSpecification(
+            String query,
+            UUID topicId,
+            String language,
+            VocabularyStatus status,
+            VocabularySearchMode mode
+    ) {
+        return Specification.allOf(
+                VocabularySpecifications.notDeleted(),
+                VocabularySpecifications.hasStatus(status),
+                VocabularySpecifications.hasLanguage(normalizeLanguage(language)),
+                VocabularySpecifications.inTopic(topicId),
+                termMatches(normalizeTerm(query), mode)
+        );
+    }
+
+    private Specification<Vocabulary> termMatches(String normalizedQuery, VocabularySearchMode mode) {
+        if (mode == null) {
+            return VocabularySpecifications.termStartsWith(normalizedQuery);
+        }
+        return switch (mode) {
+            case PREFIX -> VocabularySpecifications.termStartsWith(normalizedQuery);
+            case CONTAINS -> VocabularySpecifications.termContainsIndexed(normalizedQuery);
+            case CONTAINS_SCAN -> VocabularySpecifications.termContains(normalizedQuery);
+        };
+    }
+
     private String normalizeTerm(String term) {
         if (term == null) {
             return null;
@@ -0,0 +1,138 @@
+package com.learnapp.service;
+
+import com.learnapp.entities.VocabularyStatus;
+import com.learnapp.repository.VocabularyRepository;
+import com.learnapp.repository.VocabularyTerm;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Serves type-ahead suggestions from per-language tries of APPROVED terms held in the
+ * JVM. The tries are loaded once at startup and then kept current by
+ * {@link VocabularyService} as vocabularies enter or leave the approved set.
+ */
+@Service
+public class VocabularySuggestionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(VocabularySuggestionService.class);
+
+    private static final int MAX_LIMIT = 50;
+
+    private final VocabularyRepository vocabularyRepository;
+    private final Object mutationLock = new Object();
+    private volatile Map<String, PrefixTrie> tries = new ConcurrentHashMap<>();
+    // Changes that arrive while a rebuild is loading; replayed onto the new tries before the swap.
+    private List<Change> changesDuringRebuild;
+
+    public VocabularySuggestionService(VocabularyRepository vocabularyRepository, MeterRegistry meterRegistry) {
+        this.vocabularyRepository = vocabularyRepository;
+        Gauge.builder("vocab.suggest.terms", this, service -> service.sum(PrefixTrie::size))
+                .description("Approved terms held in the suggestion tries")
+                .register(meterRegistry);
+        Gauge.builder("vocab.suggest.nodes", this, service -> service.sum(PrefixTrie::nodeCount))
+                .description("Nodes across all suggestion tries")
+                .register(meterRegistry);
+        Gauge.builder("vocab.suggest.memory", this, service -> service.sum(PrefixTrie::estimatedBytes))
+                .description("Estimated heap footprint of the suggestion tries")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public List<String> suggest(String prefix, String language, int limit) {
+        String normalizedPrefix = normalize(prefix);
+        if (normalizedPrefix == null) {
+            return List.of();
+        }
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        String normalizedLanguage = normalize(language);
+        if (normalizedLanguage != null) {
+            PrefixTrie trie = tries.get(normalizedLanguage);
+            return trie == null ? List.of() : trie.complete(normalizedPrefix, boundedLimit);
+        }
+
+        TreeSet<String> merged = new TreeSet<>();
+        for (PrefixTrie trie : tries.values()) {
+            merged.addAll(trie.complete(normalizedPrefix, boundedLimit));
+        }
+        return merged.stream().limit(boundedLimit).toList();
+    }
+
+    public void add(String language, String termNormalized) {
+        apply(new Change(true, language, termNormalized));
+    }
+
+    public void remove(String language, String termNormalized) {
+        apply(new Change(false, language, termNormalized));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (mutationLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+        Map<String, PrefixTrie> fresh = new ConcurrentHashMap<>();
+        try {
+            for (VocabularyTerm term : vocabularyRepository.findTermsByStatus(VocabularyStatus.APPROVED)) {
+                new Change(true, term.language(), term.termNormalized()).applyTo(fresh);
+            }
+        } catch (RuntimeException ex) {
+            synchronized (mutationLock) {
+                changesDuringRebuild = null;
+            }
+            throw ex;
+        }
+        synchronized (mutationLock) {
+            changesDuringRebuild.forEach(change -> change.applyTo(fresh));
+            changesDuringRebuild = null;
+            tries = fresh;
+        }
+        logger.info("Vocabulary suggestion index loaded: {} terms", sum(PrefixTrie::size));
+    }
+
+    private void apply(Change change) {
+        synchronized (mutationLock) {
+            change.applyTo(tries);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        }
+    }
+
+    private double sum(ToLongFunction<PrefixTrie> metric) {
+        return tries.values().stream().mapToLong(metric).sum();
+    }
+
+    private String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    private record Change(boolean add, String language, String termNormalized) {
+
+        void applyTo(Map<String, PrefixTrie> target) {
+            if (add) {
+                target.computeIfAbsent(language, key -> new PrefixTrie()).add(termNormalized);
+                return;
+            }
+            PrefixTrie trie = target.get(language);
+            if (trie != null) {
+                trie.remove(termNormalized);
+            }
+        }
+    }
+}
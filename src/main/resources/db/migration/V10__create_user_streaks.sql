@@ -0,0 +1,11 @@
+-- Daily-goal streak per user, updated on every review write. Dates are in the user's
+-- own time zone (users.time_zone, UTC when unset).
+CREATE TABLE user_streaks (
+    user_id BINARY(16) NOT NULL,
+    current_streak INT NOT NULL DEFAULT 0,
+    longest_streak INT NOT NULL DEFAULT 0,
+    last_goal_date DATE NULL,
+    activity_date DATE NULL,
+    activity_reviews INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id)
+) ENGINE=InnoDB;
@@ -0,0 +1,33 @@
+-- Checkpoint of the in-memory leaderboards, one row per metric, period and user.
+-- All-time rows use period_start 1970-01-01; weekly rows the Monday (UTC) of the week.
+CREATE TABLE leaderboard_scores (
+    metric VARCHAR(20) NOT NULL,
+    period_start DATE NOT NULL,
+    user_id BINARY(16) NOT NULL,
+    score BIGINT NOT NULL,
+    PRIMARY KEY (metric, period_start, user_id)
+) ENGINE=InnoDB;
+
+-- Seed from the aggregates that already exist.
+INSERT INTO leaderboard_scores (metric, period_start, user_id, score)
+SELECT 'REVIEWS', '1970-01-01', user_id, SUM(reviews)
+FROM user_daily_stats
+GROUP BY user_id;
+
+INSERT INTO leaderboard_scores (metric, period_start, user_id, score)
+SELECT 'MASTERED', '1970-01-01', user_id, mastered_count
+FROM user_vocab_counters
+WHERE mastered_count > 0;
+
+INSERT INTO leaderboard_scores (metric, period_start, user_id, score)
+SELECT 'REVIEWS', DATE_SUB(UTC_DATE(), INTERVAL WEEKDAY(UTC_DATE()) DAY), user_id, SUM(reviews)
+FROM user_daily_stats
+WHERE stat_date >= DATE_SUB(UTC_DATE(), INTERVAL WEEKDAY(UTC_DATE()) DAY)
+GROUP BY user_id;
+
+INSERT INTO leaderboard_scores (metric, period_start, user_id, score)
+SELECT 'MASTERED', DATE_SUB(UTC_DATE(), INTERVAL WEEKDAY(UTC_DATE()) DAY), user_id, SUM(mastered)
+FROM user_daily_stats
+WHERE stat_date >= DATE_SUB(UTC_DATE(), INTERVAL WEEKDAY(UTC_DATE()) DAY)
+GROUP BY user_id
+HAVING SUM(mastered) > 0;
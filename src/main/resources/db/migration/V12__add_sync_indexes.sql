@@ -0,0 +1,15 @@
+-- Delta sync (GET /sync) walks each table in (updated_at, id) order.
+ALTER TABLE user_vocabularies ADD KEY idx_user_vocab_user_updated (user_id, updated_at, id);
+ALTER TABLE vocabularies ADD KEY idx_vocab_updated_at (updated_at, id);
+ALTER TABLE topics ADD KEY idx_topics_updated_at (updated_at, id);
+
+-- Learning-list rows are hard-deleted; this keeps the latest removal per card so sync
+-- clients can drop it. Pruned after the sync retention period.
+CREATE TABLE user_vocab_tombstones (
+    user_id BINARY(16) NOT NULL,
+    vocabulary_id BINARY(16) NOT NULL,
+    deleted_at DATETIME NOT NULL,
+    PRIMARY KEY (user_id, vocabulary_id),
+    KEY idx_user_vocab_tombstones_user_deleted (user_id, deleted_at, vocabulary_id),
+    KEY idx_user_vocab_tombstones_deleted (deleted_at)
+) ENGINE=InnoDB;
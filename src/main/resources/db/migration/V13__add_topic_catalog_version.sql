@@ -0,0 +1,4 @@
+-- Bumped whenever a topic or the set of approved vocabularies under it changes, in the
+-- same transaction as the change. Conditional GETs and topic decks key off it; updated_at
+-- is left alone so delta sync does not resend unchanged topic rows.
+ALTER TABLE topics ADD COLUMN catalog_version BIGINT NOT NULL DEFAULT 0 AFTER status;
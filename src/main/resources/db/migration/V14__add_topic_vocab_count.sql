@@ -0,0 +1,14 @@
+-- Approved, non-deleted vocabularies linked to each topic, kept in step by the services
+-- that link, approve and reject vocabularies, so topic listings need no COUNT per row.
+-- A nightly reconciliation (TopicService.reconcileVocabCounts) repairs any drift.
+ALTER TABLE topics ADD COLUMN vocab_count INT NOT NULL DEFAULT 0 AFTER catalog_version;
+
+UPDATE topics t
+JOIN (
+    SELECT tv.topic_id, COUNT(*) AS vocab_count
+    FROM topic_vocabularies tv
+    JOIN vocabularies v ON v.id = tv.vocabulary_id
+    WHERE v.status = 'APPROVED' AND v.deleted_at IS NULL
+    GROUP BY tv.topic_id
+) counted ON counted.topic_id = t.id
+SET t.vocab_count = counted.vocab_count;
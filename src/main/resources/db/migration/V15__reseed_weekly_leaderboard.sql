@@ -0,0 +1,21 @@
+-- V11 seeded the current week from user_daily_stats, whose stat_date is now the
+-- user's local day, so the seed could miss or include reviews at the edges of the
+-- UTC week. Rebuild the current week from review_events, whose reviewed_at is UTC.
+SET @week_start = DATE_SUB(UTC_DATE(), INTERVAL WEEKDAY(UTC_DATE()) DAY);
+
+DELETE FROM leaderboard_scores
+WHERE period_start = @week_start;
+
+INSERT INTO leaderboard_scores (metric, period_start, user_id, score)
+SELECT 'REVIEWS', @week_start, user_id, COUNT(*)
+FROM review_events
+WHERE reviewed_at >= @week_start
+GROUP BY user_id;
+
+INSERT INTO leaderboard_scores (metric, period_start, user_id, score)
+SELECT 'MASTERED', @week_start, user_id, COUNT(*)
+FROM review_events
+WHERE reviewed_at >= @week_start
+  AND status_before <> 'MASTERED'
+  AND status_after = 'MASTERED'
+GROUP BY user_id;
@@ -0,0 +1,9 @@
+-- When a vocabulary first entered the approved catalog. Delta sync only reports removals
+-- for rows that were approved at some point, so pending contributions never reach clients.
+ALTER TABLE vocabularies ADD COLUMN approved_at DATETIME NULL AFTER status;
+
+-- Rejected rows may have been approved before this column existed; treat them as having
+-- been in the catalog so clients that hold them still get the removal.
+UPDATE vocabularies
+SET approved_at = updated_at, updated_at = updated_at
+WHERE status IN ('APPROVED', 'REJECTED');
@@ -0,0 +1,9 @@
+-- Trigram posting lists over vocabularies.term_normalized for substring search.
+-- Grams use a binary collation so that every distinct trigram gets its own row.
+CREATE TABLE vocabulary_ngrams (
+    gram VARCHAR(3) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
+    vocabulary_id CHAR(36) NOT NULL,
+    PRIMARY KEY (gram, vocabulary_id),
+    KEY idx_vocab_ngrams_vocab_id (vocabulary_id),
+    CONSTRAINT fk_vocab_ngrams_vocab FOREIGN KEY (vocabulary_id) REFERENCES vocabularies(id) ON DELETE CASCADE
+) ENGINE=InnoDB;
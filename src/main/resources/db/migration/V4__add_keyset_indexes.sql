@@ -0,0 +1,4 @@
+-- Composite indexes backing keyset (seek) pagination ordered on (created_at, id).
+ALTER TABLE vocabularies ADD KEY idx_vocab_created_at (created_at, id);
+ALTER TABLE users ADD KEY idx_users_created_at (created_at, id);
+ALTER TABLE user_vocabularies ADD KEY idx_user_vocab_user_created (user_id, created_at, id);
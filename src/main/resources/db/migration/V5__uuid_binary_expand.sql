@@ -0,0 +1,119 @@
+-- UUID keys CHAR(36) -> BINARY(16), step 1 of 2 (expand).
+--
+-- Adds a BINARY(16) shadow column next to every UUID column, keeps it in sync with
+-- triggers and backfills existing rows in small batches. Nothing reads the shadow
+-- columns yet, so this step is safe to apply while the previous release is serving
+-- traffic (e.g. `flyway migrate -target=5` against the live database). V6 swaps the
+-- columns and must ship together with the BINARY(16) entity mappings.
+--
+-- UUID_TO_BIN without the swap flag keeps the canonical byte order, which matches how
+-- Hibernate binds java.util.UUID to BINARY and keeps v7 (time-ordered) ids ascending.
+
+ALTER TABLE users ADD COLUMN id_bin BINARY(16) NULL;
+ALTER TABLE topics ADD COLUMN id_bin BINARY(16) NULL;
+ALTER TABLE vocabularies
+    ADD COLUMN id_bin BINARY(16) NULL,
+    ADD COLUMN created_by_bin BINARY(16) NULL;
+ALTER TABLE topic_vocabularies
+    ADD COLUMN topic_id_bin BINARY(16) NULL,
+    ADD COLUMN vocabulary_id_bin BINARY(16) NULL;
+ALTER TABLE user_vocabularies
+    ADD COLUMN id_bin BINARY(16) NULL,
+    ADD COLUMN user_id_bin BINARY(16) NULL,
+    ADD COLUMN vocabulary_id_bin BINARY(16) NULL;
+ALTER TABLE vocabulary_ngrams ADD COLUMN vocabulary_id_bin BINARY(16) NULL;
+
+-- Lets each backfill batch find unconverted rows without rescanning converted ones.
+-- Dropped again in V6.
+ALTER TABLE users ADD KEY tmp_users_id_bin (id_bin);
+ALTER TABLE topics ADD KEY tmp_topics_id_bin (id_bin);
+ALTER TABLE vocabularies ADD KEY tmp_vocab_id_bin (id_bin);
+ALTER TABLE topic_vocabularies ADD KEY tmp_topic_vocab_topic_id_bin (topic_id_bin);
+ALTER TABLE user_vocabularies ADD KEY tmp_user_vocab_id_bin (id_bin);
+ALTER TABLE vocabulary_ngrams ADD KEY tmp_vocab_ngrams_vocab_id_bin (vocabulary_id_bin);
+
+-- Writes from the running release keep the shadow columns current.
+CREATE TRIGGER trg_users_uuid_bin_ins BEFORE INSERT ON users FOR EACH ROW
+    SET NEW.id_bin = UUID_TO_BIN(NEW.id);
+CREATE TRIGGER trg_users_uuid_bin_upd BEFORE UPDATE ON users FOR EACH ROW
+    SET NEW.id_bin = UUID_TO_BIN(NEW.id);
+
+CREATE TRIGGER trg_topics_uuid_bin_ins BEFORE INSERT ON topics FOR EACH ROW
+    SET NEW.id_bin = UUID_TO_BIN(NEW.id);
+CREATE TRIGGER trg_topics_uuid_bin_upd BEFORE UPDATE ON topics FOR EACH ROW
+    SET NEW.id_bin = UUID_TO_BIN(NEW.id);
+
+CREATE TRIGGER trg_vocab_uuid_bin_ins BEFORE INSERT ON vocabularies FOR EACH ROW
+    SET NEW.id_bin = UUID_TO_BIN(NEW.id),
+        NEW.created_by_bin = UUID_TO_BIN(NEW.created_by);
+CREATE TRIGGER trg_vocab_uuid_bin_upd BEFORE UPDATE ON vocabularies FOR EACH ROW
+    SET NEW.id_bin = UUID_TO_BIN(NEW.id),
+        NEW.created_by_bin = UUID_TO_BIN(NEW.created_by);
+
+CREATE TRIGGER trg_topic_vocab_uuid_bin_ins BEFORE INSERT ON topic_vocabularies FOR EACH ROW
+    SET NEW.topic_id_bin = UUID_TO_BIN(NEW.topic_id),
+        NEW.vocabulary_id_bin = UUID_TO_BIN(NEW.vocabulary_id);
+CREATE TRIGGER trg_topic_vocab_uuid_bin_upd BEFORE UPDATE ON topic_vocabularies FOR EACH ROW
+    SET NEW.topic_id_bin = UUID_TO_BIN(NEW.topic_id),
+        NEW.vocabulary_id_bin = UUID_TO_BIN(NEW.vocabulary_id);
+
+CREATE TRIGGER trg_user_vocab_uuid_bin_ins BEFORE INSERT ON user_vocabularies FOR EACH ROW
+    SET NEW.id_bin = UUID_TO_BIN(NEW.id),
+        NEW.user_id_bin = UUID_TO_BIN(NEW.user_id),
+        NEW.vocabulary_id_bin = UUID_TO_BIN(NEW.vocabulary_id);
+CREATE TRIGGER trg_user_vocab_uuid_bin_upd BEFORE UPDATE ON user_vocabularies FOR EACH ROW
+    SET NEW.id_bin = UUID_TO_BIN(NEW.id),
+        NEW.user_id_bin = UUID_TO_BIN(NEW.user_id),
+        NEW.vocabulary_id_bin = UUID_TO_BIN(NEW.vocabulary_id);
+
+CREATE TRIGGER trg_vocab_ngrams_uuid_bin_ins BEFORE INSERT ON vocabulary_ngrams FOR EACH ROW
+    SET NEW.vocabulary_id_bin = UUID_TO_BIN(NEW.vocabulary_id);
+CREATE TRIGGER trg_vocab_ngrams_uuid_bin_upd BEFORE UPDATE ON vocabulary_ngrams FOR EACH ROW
+    SET NEW.vocabulary_id_bin = UUID_TO_BIN(NEW.vocabulary_id);
+
+-- Backfill existing rows in batches of 5000, committing after each batch so row locks
+-- are held for one batch rather than for the whole migration. Tables whose updated_at is
+-- ON UPDATE CURRENT_TIMESTAMP assign it to itself so the backfill does not touch it.
+DELIMITER //
+CREATE PROCEDURE uuid_bin_backfill(IN table_name VARCHAR(64), IN assignments VARCHAR(512), IN pending_column VARCHAR(64))
+BEGIN
+    DECLARE batch_rows INT;
+    SET @uuid_bin_sql = CONCAT(
+            'UPDATE ', table_name, ' SET ', assignments,
+            ' WHERE ', pending_column, ' IS NULL LIMIT 5000'
+    );
+    PREPARE uuid_bin_stmt FROM @uuid_bin_sql;
+    REPEAT
+        EXECUTE uuid_bin_stmt;
+        SET batch_rows = ROW_COUNT();
+        COMMIT;
+    UNTIL batch_rows = 0 END REPEAT;
+    DEALLOCATE PREPARE uuid_bin_stmt;
+END //
+DELIMITER ;
+
+CALL uuid_bin_backfill('users', 'id_bin = UUID_TO_BIN(id), updated_at = updated_at', 'id_bin');
+CALL uuid_bin_backfill('topics', 'id_bin = UUID_TO_BIN(id), updated_at = updated_at', 'id_bin');
+CALL uuid_bin_backfill(
+        'vocabularies',
+        'id_bin = UUID_TO_BIN(id), created_by_bin = UUID_TO_BIN(created_by), updated_at = updated_at',
+        'id_bin'
+);
+CALL uuid_bin_backfill(
+        'topic_vocabularies',
+        'topic_id_bin = UUID_TO_BIN(topic_id), vocabulary_id_bin = UUID_TO_BIN(vocabulary_id)',
+        'topic_id_bin'
+);
+CALL uuid_bin_backfill(
+        'user_vocabularies',
+        'id_bin = UUID_TO_BIN(id), user_id_bin = UUID_TO_BIN(user_id), vocabulary_id_bin = UUID_TO_BIN(vocabulary_id), '
+            'updated_at = updated_at',
+        'id_bin'
+);
+CALL uuid_bin_backfill(
+        'vocabulary_ngrams',
+        'vocabulary_id_bin = UUID_TO_BIN(vocabulary_id)',
+        'vocabulary_id_bin'
+);
+
+DROP PROCEDURE uuid_bin_backfill;
@@ -0,0 +1,112 @@
+-- UUID keys CHAR(36) -> BINARY(16), step 2 of 2 (contract).
+--
+-- Replaces every CHAR(36) UUID column with its BINARY(16) shadow from V5, then rebuilds
+-- keys, indexes and foreign keys on the new columns. Each table is rebuilt by a single
+-- in-place ALTER. Requires the release that maps UUIDs as BINARY(16); the previous
+-- release cannot read the converted tables.
+
+-- Only for this session: lets the foreign keys below be added in place.
+SET foreign_key_checks = 0;
+
+DROP TRIGGER trg_users_uuid_bin_ins;
+DROP TRIGGER trg_users_uuid_bin_upd;
+DROP TRIGGER trg_topics_uuid_bin_ins;
+DROP TRIGGER trg_topics_uuid_bin_upd;
+DROP TRIGGER trg_vocab_uuid_bin_ins;
+DROP TRIGGER trg_vocab_uuid_bin_upd;
+DROP TRIGGER trg_topic_vocab_uuid_bin_ins;
+DROP TRIGGER trg_topic_vocab_uuid_bin_upd;
+DROP TRIGGER trg_user_vocab_uuid_bin_ins;
+DROP TRIGGER trg_user_vocab_uuid_bin_upd;
+DROP TRIGGER trg_vocab_ngrams_uuid_bin_ins;
+DROP TRIGGER trg_vocab_ngrams_uuid_bin_upd;
+
+ALTER TABLE vocabularies DROP FOREIGN KEY fk_vocab_created_by;
+ALTER TABLE topic_vocabularies
+    DROP FOREIGN KEY fk_topic_vocab_topic,
+    DROP FOREIGN KEY fk_topic_vocab_vocab;
+ALTER TABLE user_vocabularies
+    DROP FOREIGN KEY fk_user_vocab_user,
+    DROP FOREIGN KEY fk_user_vocab_vocab;
+ALTER TABLE vocabulary_ngrams DROP FOREIGN KEY fk_vocab_ngrams_vocab;
+
+ALTER TABLE users
+    DROP PRIMARY KEY,
+    DROP KEY idx_users_created_at,
+    DROP KEY tmp_users_id_bin,
+    DROP COLUMN id,
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (id),
+    ADD KEY idx_users_created_at (created_at, id);
+
+ALTER TABLE topics
+    DROP PRIMARY KEY,
+    DROP KEY tmp_topics_id_bin,
+    DROP COLUMN id,
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (id);
+
+ALTER TABLE vocabularies
+    DROP PRIMARY KEY,
+    DROP KEY idx_vocab_created_at,
+    DROP KEY tmp_vocab_id_bin,
+    DROP COLUMN id,
+    DROP COLUMN created_by,
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+    CHANGE COLUMN created_by_bin created_by BINARY(16) NULL AFTER status,
+    ADD PRIMARY KEY (id),
+    ADD KEY idx_vocab_created_at (created_at, id);
+
+ALTER TABLE topic_vocabularies
+    DROP PRIMARY KEY,
+    DROP KEY idx_topic_vocab_topic_id,
+    DROP KEY idx_topic_vocab_vocab_id,
+    DROP KEY tmp_topic_vocab_topic_id_bin,
+    DROP COLUMN topic_id,
+    DROP COLUMN vocabulary_id,
+    CHANGE COLUMN topic_id_bin topic_id BINARY(16) NOT NULL FIRST,
+    CHANGE COLUMN vocabulary_id_bin vocabulary_id BINARY(16) NOT NULL AFTER topic_id,
+    ADD PRIMARY KEY (topic_id, vocabulary_id),
+    ADD KEY idx_topic_vocab_topic_id (topic_id),
+    ADD KEY idx_topic_vocab_vocab_id (vocabulary_id);
+
+ALTER TABLE user_vocabularies
+    DROP PRIMARY KEY,
+    DROP KEY uk_user_vocab_user_vocab,
+    DROP KEY idx_user_vocab_user_id,
+    DROP KEY idx_user_vocab_vocab_id,
+    DROP KEY idx_user_vocab_user_created,
+    DROP KEY tmp_user_vocab_id_bin,
+    DROP COLUMN id,
+    DROP COLUMN user_id,
+    DROP COLUMN vocabulary_id,
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+    CHANGE COLUMN user_id_bin user_id BINARY(16) NOT NULL AFTER id,
+    CHANGE COLUMN vocabulary_id_bin vocabulary_id BINARY(16) NOT NULL AFTER user_id,
+    ADD PRIMARY KEY (id),
+    ADD UNIQUE KEY uk_user_vocab_user_vocab (user_id, vocabulary_id),
+    ADD KEY idx_user_vocab_user_id (user_id),
+    ADD KEY idx_user_vocab_vocab_id (vocabulary_id),
+    ADD KEY idx_user_vocab_user_created (user_id, created_at, id);
+
+ALTER TABLE vocabulary_ngrams
+    DROP PRIMARY KEY,
+    DROP KEY idx_vocab_ngrams_vocab_id,
+    DROP KEY tmp_vocab_ngrams_vocab_id_bin,
+    DROP COLUMN vocabulary_id,
+    CHANGE COLUMN vocabulary_id_bin vocabulary_id BINARY(16) NOT NULL AFTER gram,
+    ADD PRIMARY KEY (gram, vocabulary_id),
+    ADD KEY idx_vocab_ngrams_vocab_id (vocabulary_id);
+
+ALTER TABLE vocabularies
+    ADD CONSTRAINT fk_vocab_created_by FOREIGN KEY (created_by) REFERENCES users(id) ON DELETE SET NULL;
+ALTER TABLE topic_vocabularies
+    ADD CONSTRAINT fk_topic_vocab_topic FOREIGN KEY (topic_id) REFERENCES topics(id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_topic_vocab_vocab FOREIGN KEY (vocabulary_id) REFERENCES vocabularies(id) ON DELETE CASCADE;
+ALTER TABLE user_vocabularies
+    ADD CONSTRAINT fk_user_vocab_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_user_vocab_vocab FOREIGN KEY (vocabulary_id) REFERENCES vocabularies(id) ON DELETE CASCADE;
+ALTER TABLE vocabulary_ngrams
+    ADD CONSTRAINT fk_vocab_ngrams_vocab FOREIGN KEY (vocabulary_id) REFERENCES vocabularies(id) ON DELETE CASCADE;
+
+SET foreign_key_checks = 1;
@@ -0,0 +1,7 @@
+-- Spaced-repetition (SM-2) schedule per learning-list row. Existing rows become due now.
+ALTER TABLE user_vocabularies
+    ADD COLUMN ease_factor DOUBLE NOT NULL DEFAULT 2.5,
+    ADD COLUMN interval_days INT NOT NULL DEFAULT 0,
+    ADD COLUMN repetitions INT NOT NULL DEFAULT 0,
+    ADD COLUMN due_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    ADD KEY idx_user_vocab_user_due (user_id, due_at);
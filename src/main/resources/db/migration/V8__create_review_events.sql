@@ -0,0 +1,24 @@
+-- Append-only review log, written in batches by ReviewEventLog. No foreign keys so
+-- the batched inserts never take locks on users or vocabularies.
+CREATE TABLE review_events (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BINARY(16) NOT NULL,
+    vocabulary_id BINARY(16) NOT NULL,
+    grade TINYINT NULL,
+    status_before VARCHAR(30) NOT NULL,
+    status_after VARCHAR(30) NOT NULL,
+    progress INT NOT NULL,
+    reviewed_at DATETIME NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_review_events_user_reviewed (user_id, reviewed_at)
+) ENGINE=InnoDB;
+
+-- Per-user daily counters, aggregated from the same batches as review_events.
+CREATE TABLE user_daily_stats (
+    user_id BINARY(16) NOT NULL,
+    stat_date DATE NOT NULL,
+    reviews INT NOT NULL DEFAULT 0,
+    newly_learned INT NOT NULL DEFAULT 0,
+    mastered INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, stat_date)
+) ENGINE=InnoDB;
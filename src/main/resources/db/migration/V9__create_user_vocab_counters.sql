@@ -0,0 +1,17 @@
+-- Learning-list size per user and status, kept in step with user_vocabularies by
+-- UserVocabularyService so the stats dashboard is a single primary-key lookup.
+CREATE TABLE user_vocab_counters (
+    user_id BINARY(16) NOT NULL,
+    new_count INT NOT NULL DEFAULT 0,
+    learning_count INT NOT NULL DEFAULT 0,
+    mastered_count INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id)
+) ENGINE=InnoDB;
+
+INSERT INTO user_vocab_counters (user_id, new_count, learning_count, mastered_count)
+SELECT user_id,
+       SUM(status = 'NEW'),
+       SUM(status = 'LEARNING'),
+       SUM(status = 'MASTERED')
+FROM user_vocabularies
+GROUP BY user_id;
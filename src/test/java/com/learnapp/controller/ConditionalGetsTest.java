@@ -0,0 +1,45 @@
+package com.learnapp.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+class ConditionalGetsTest {
+
+    @Test
+    void etagChangesWithResourceVersionAndQuery() {
+        String etag = ConditionalGets.etag("topic-vocab/1", 3L, "page=0");
+
+        assertThat(etag).isEqualTo(ConditionalGets.etag("topic-vocab/1", 3L, "page=0")).startsWith("\"");
+        assertThat(etag)
+                .isNotEqualTo(ConditionalGets.etag("topic-vocab/2", 3L, "page=0"))
+                .isNotEqualTo(ConditionalGets.etag("topic-vocab/1", 4L, "page=0"))
+                .isNotEqualTo(ConditionalGets.etag("topic-vocab/1", 3L, "page=1"));
+    }
+
+    @Test
+    void matchingIfNoneMatchAnswers304() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/topics");
+        request.setQueryString("page=0");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ConditionalGets.etag("topics", 7L, "page=0"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(ConditionalGets.notModified(new ServletWebRequest(request, response), "topics", 7L)).isTrue();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+    }
+
+    @Test
+    void staleIfNoneMatchSendsTheNewEtag() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/topics");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ConditionalGets.etag("topics", 7L, null));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(ConditionalGets.notModified(new ServletWebRequest(request, response), "topics", 8L)).isFalse();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ConditionalGets.etag("topics", 8L, null));
+    }
+}
@@ -0,0 +1,35 @@
+package com.learnapp.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class ExportResponsesTest {
+
+    @Test
+    void acceptsGzipWithAPositiveQuality() {
+        assertThat(acceptsGzip("gzip")).isTrue();
+        assertThat(acceptsGzip("deflate, GZIP;q=0.5")).isTrue();
+        assertThat(acceptsGzip("br, *")).isTrue();
+    }
+
+    @Test
+    void refusesGzipWithZeroQualityOrWhenMissing() {
+        assertThat(acceptsGzip(null)).isFalse();
+        assertThat(acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(acceptsGzip("gzip; q=0.0, deflate")).isFalse();
+        assertThat(acceptsGzip("*, gzip;q=0")).isFalse();
+        assertThat(acceptsGzip("br, identity")).isFalse();
+        assertThat(acceptsGzip("*;q=0")).isFalse();
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return ExportResponses.acceptsGzip(request);
+    }
+}
@@ -0,0 +1,89 @@
+package com.learnapp.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.learnapp.entities.VocabularyStatus;
+import com.learnapp.service.TopicDeckService;
+import com.learnapp.service.TopicPageCache;
+import com.learnapp.service.TopicService;
+import com.learnapp.service.VocabularyService;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+class TopicControllerTest {
+
+    private final TopicService topicService = mock(TopicService.class);
+    private final VocabularyService vocabularyService = mock(VocabularyService.class);
+    private final UUID topicId = UUID.randomUUID();
+
+    private TopicController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new TopicController(
+                topicService,
+                vocabularyService,
+                mock(TopicDeckService.class),
+                mock(TopicPageCache.class)
+        );
+        when(topicService.findActiveCatalogVersion(topicId)).thenReturn(Optional.of(5L));
+        when(vocabularyService.searchApprovedSlice(any(), eq(topicId), any(), any(), any(), any()))
+                .thenReturn(new SliceImpl<>(List.of()));
+    }
+
+    @Test
+    void approvedListingAnswers304WhileTheCatalogVersionIsUnchanged() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        Object body = list(VocabularyStatus.APPROVED, "status=APPROVED", response);
+
+        assertThat(body).isNull();
+        assertThat(response.getStatus()).isEqualTo(304);
+        verifyNoInteractions(vocabularyService);
+    }
+
+    @Test
+    void listingWithoutStatusIsNeverAnswered304() {
+        // Without a status the listing includes pending contributions, which do not bump the version.
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        Object body = list(null, null, response);
+
+        assertThat(body).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        verify(vocabularyService).searchApprovedSlice(isNull(), eq(topicId), isNull(), isNull(), isNull(), any());
+    }
+
+    private Object list(VocabularyStatus status, String queryString, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/topics/" + topicId + "/vocab");
+        request.setQueryString(queryString);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ConditionalGets.etag("topic-vocab/" + topicId, 5L, queryString));
+        return controller.listTopicVocabulary(
+                topicId,
+                null,
+                null,
+                status,
+                null,
+                false,
+                PageRequest.of(0, 20),
+                new ServletWebRequest(request, response)
+        );
+    }
+}
@@ -0,0 +1,79 @@
+package com.learnapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.learnapp.entities.User;
+import com.learnapp.entities.UserRole;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+import javax.crypto.SecretKey;
+import org.junit.jupiter.api.Test;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret-0123456789";
+
+    @Test
+    void authenticatesValidTokenAndReturnsSamePrincipalOnRepeat() {
+        JwtService jwtService = new JwtService(properties(3600));
+        User user = user();
+        String token = jwtService.generateToken(user);
+
+        UserPrincipal first = jwtService.authenticate(token).orElseThrow();
+        UserPrincipal second = jwtService.authenticate(token).orElseThrow();
+
+        assertThat(first.id()).isEqualTo(user.getId());
+        assertThat(first.email()).isEqualTo("user@example.com");
+        assertThat(first.role()).isEqualTo(UserRole.ADMIN);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void rejectsTamperedAndExpiredTokens() {
+        JwtService jwtService = new JwtService(properties(3600));
+        String token = jwtService.generateToken(user());
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThat(jwtService.authenticate(tampered)).isEmpty();
+        assertThat(jwtService.authenticate("not-a-jwt")).isEmpty();
+
+        JwtService expiring = new JwtService(properties(-1));
+        assertThat(expiring.authenticate(expiring.generateToken(user()))).isEmpty();
+    }
+
+    @Test
+    void rejectsSignedTokensWithoutSubjectOrRole() {
+        JwtService jwtService = new JwtService(properties(3600));
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        Date expiry = Date.from(Instant.now().plusSeconds(3600));
+
+        String noSubject = Jwts.builder().claim("role", "USER").setExpiration(expiry).signWith(key).compact();
+        String noRole = Jwts.builder()
+                .setSubject(UUID.randomUUID().toString())
+                .setExpiration(expiry)
+                .signWith(key)
+                .compact();
+
+        assertThat(jwtService.authenticate(noSubject)).isEmpty();
+        assertThat(jwtService.authenticate(noRole)).isEmpty();
+    }
+
+    private JwtProperties properties(long expirationSeconds) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setExpirationSeconds(expirationSeconds);
+        return properties;
+    }
+
+    private User user() {
+        return User.builder()
+                .id(UUID.randomUUID())
+                .email("user@example.com")
+                .role(UserRole.ADMIN)
+                .build();
+    }
+}
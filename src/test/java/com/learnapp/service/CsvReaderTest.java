@@ -0,0 +1,29 @@
+package com.learnapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class CsvReaderTest {
+
+    @Test
+    void readsQuotedFieldsAndTracksRecordLines() throws IOException {
+        String input = "\uFEFFterm,definition\r\n"
+                + "apple,\"a fruit, red or green\"\n"
+                + "quote,\"say \"\"hi\"\"\nthen leave\"\n"
+                + "last,no newline";
+        try (CsvReader reader = new CsvReader(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)))) {
+            assertThat(reader.next()).containsExactly("term", "definition");
+            assertThat(reader.next()).containsExactly("apple", "a fruit, red or green");
+            assertThat(reader.recordLine()).isEqualTo(2);
+            assertThat(reader.next()).containsExactly("quote", "say \"hi\"\nthen leave");
+            assertThat(reader.recordLine()).isEqualTo(3);
+            assertThat(reader.next()).containsExactly("last", "no newline");
+            assertThat(reader.recordLine()).isEqualTo(5);
+            assertThat(reader.next()).isNull();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.learnapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.learnapp.dto.LeaderboardEntryResponse;
+import com.learnapp.dto.LeaderboardMetric;
+import com.learnapp.dto.LeaderboardPeriod;
+import com.learnapp.entities.User;
+import com.learnapp.repository.LeaderboardJdbcRepository;
+import com.learnapp.repository.LeaderboardJdbcRepository.Score;
+import com.learnapp.repository.UserRepository;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.ObjLongConsumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class LeaderboardServiceTest {
+
+    private final LeaderboardJdbcRepository repository = mock(LeaderboardJdbcRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UUID userId = UUID.randomUUID();
+
+    private LeaderboardService leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new LeaderboardService(repository, userRepository, 100);
+        leaderboard.warmUp();
+        when(userRepository.findById(userId)).thenReturn(Optional.of(User.builder().id(userId).build()));
+    }
+
+    @Test
+    void restoredUserGetsCheckpointedScoresBack() {
+        leaderboard.record(userId, 7, 3, 2);
+        leaderboard.checkpoint();
+        leaderboard.remove(userId);
+        assertThat(score(LeaderboardPeriod.ALL_TIME)).isZero();
+
+        when(repository.findUserScores(eq(userId), eq(LocalDate.EPOCH), any())).thenAnswer(invocation -> List.of(
+                new Score("REVIEWS", LocalDate.EPOCH, userId, 7),
+                new Score("REVIEWS", invocation.getArgument(2), userId, 7)
+        ));
+        leaderboard.restore(userId);
+
+        assertThat(score(LeaderboardPeriod.ALL_TIME)).isEqualTo(7);
+        assertThat(score(LeaderboardPeriod.WEEKLY)).isEqualTo(7);
+    }
+
+    @Test
+    void checkpointAddsOnlyThisInstancesIncrements() {
+        leaderboard.record(userId, 5, 0, 0);
+        leaderboard.checkpoint();
+        leaderboard.record(userId, 2, 0, 0);
+        leaderboard.checkpoint();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Score>> written = ArgumentCaptor.forClass(Collection.class);
+        verify(repository, times(2)).addScores(written.capture());
+        assertThat(written.getAllValues().get(0)).extracting(Score::score).containsOnly(5L);
+        assertThat(written.getAllValues().get(1)).extracting(Score::score).containsOnly(2L);
+    }
+
+    @Test
+    void refreshPicksUpScoresCheckpointedElsewhereAndKeepsPendingOnes() {
+        UUID other = UUID.randomUUID();
+        leaderboard.record(userId, 3, 0, 0);
+        doAnswer(invocation -> {
+            if (invocation.getArgument(0).equals("REVIEWS") && invocation.getArgument(1).equals(LocalDate.EPOCH)) {
+                ObjLongConsumer<UUID> consumer = invocation.getArgument(2);
+                consumer.accept(userId, 10);
+                consumer.accept(other, 4);
+            }
+            return null;
+        }).when(repository).forEachScore(any(), any(), any());
+
+        leaderboard.refresh();
+
+        assertThat(score(LeaderboardPeriod.ALL_TIME)).isEqualTo(13);
+        assertThat(leaderboard.top(LeaderboardMetric.REVIEWS, LeaderboardPeriod.ALL_TIME, 10))
+                .extracting(LeaderboardEntryResponse::score)
+                .containsExactly(13L, 4L);
+    }
+
+    private long score(LeaderboardPeriod period) {
+        return leaderboard.rankOf(userId, LeaderboardMetric.REVIEWS, period).score();
+    }
+}
@@ -0,0 +1,49 @@
+package com.learnapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class PrefixTrieTest {
+
+    @Test
+    void completesInLexicographicOrderUpToLimit() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("apply");
+        trie.add("apple");
+        trie.add("app");
+        trie.add("banana");
+
+        assertThat(trie.complete("app", 10)).containsExactly("app", "apple", "apply");
+        assertThat(trie.complete("app", 2)).containsExactly("app", "apple");
+        assertThat(trie.complete("c", 10)).isEmpty();
+        assertThat(trie.size()).isEqualTo(4);
+    }
+
+    @Test
+    void removePrunesUnusedNodes() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("app");
+        int nodesBefore = trie.nodeCount();
+        trie.add("apple");
+
+        assertThat(trie.remove("apple")).isTrue();
+        assertThat(trie.remove("apple")).isFalse();
+        assertThat(trie.nodeCount()).isEqualTo(nodesBefore);
+        assertThat(trie.complete("ap", 10)).containsExactly("app");
+
+        assertThat(trie.remove("app")).isTrue();
+        assertThat(trie.nodeCount()).isEqualTo(1);
+        assertThat(trie.size()).isZero();
+    }
+
+    @Test
+    void addIsIdempotent() {
+        PrefixTrie trie = new PrefixTrie();
+
+        assertThat(trie.add("xin chào")).isTrue();
+        assertThat(trie.add("xin chào")).isFalse();
+        assertThat(trie.size()).isEqualTo(1);
+        assertThat(trie.complete("xin c", 10)).containsExactly("xin chào");
+    }
+}
@@ -0,0 +1,65 @@
+package com.learnapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class RankedScoresTest {
+
+    @Test
+    void ranksHighestScoreFirstWithTiesByUserId() {
+        RankedScores scores = new RankedScores();
+        UUID a = new UUID(0, 1);
+        UUID b = new UUID(0, 2);
+        UUID c = new UUID(0, 3);
+
+        scores.increment(a, 5);
+        scores.increment(b, 7);
+        scores.increment(c, 5);
+
+        assertThat(scores.rank(b)).isEqualTo(1);
+        assertThat(scores.rank(a)).isEqualTo(2);
+        assertThat(scores.rank(c)).isEqualTo(3);
+        assertThat(scores.range(2, 10)).extracting(RankedScores.Entry::userId).containsExactly(a, c);
+
+        scores.increment(b, -7);
+        assertThat(scores.rank(b)).isZero();
+        assertThat(scores.size()).isEqualTo(2);
+    }
+
+    @Test
+    void matchesSortedReferenceAfterRandomUpdates() {
+        RankedScores scores = new RankedScores();
+        Map<UUID, Long> reference = new HashMap<>();
+        List<UUID> users = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            users.add(new UUID(0, i));
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            UUID user = users.get(random.nextInt(users.size()));
+            long delta = random.nextInt(20) - 5;
+            scores.increment(user, delta);
+            reference.put(user, Math.max(0, reference.getOrDefault(user, 0L) + delta));
+        }
+
+        List<UUID> expected = reference.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<UUID, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+        assertThat(scores.range(1, users.size())).extracting(RankedScores.Entry::userId).isEqualTo(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(scores.rank(expected.get(i))).isEqualTo(i + 1);
+        }
+        int middle = expected.size() / 2;
+        assertThat(scores.range(middle + 1, 3)).extracting(RankedScores.Entry::rank)
+                .containsExactly(middle + 1, middle + 2, middle + 3);
+    }
+}
@@ -0,0 +1,113 @@
+package com.learnapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.learnapp.entities.UserVocabStatus;
+import com.learnapp.repository.ReviewEvent;
+import com.learnapp.repository.ReviewEventJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+class ReviewEventLogTest {
+
+    private final ReviewEventJdbcRepository repository = mock(ReviewEventJdbcRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<ReviewEvent>> written = new ArrayList<>();
+
+    private ReviewEventLog log;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        captureWrites();
+        log = new ReviewEventLog(repository, transactionManager, meterRegistry, 3, 2);
+    }
+
+    @Test
+    void recordOnlyBuffersAndFlushWritesInBatches() {
+        List<ReviewEvent> events = List.of(event(), event(), event());
+
+        log.record(events);
+        verifyNoInteractions(repository, transactionManager);
+
+        log.flush();
+        assertThat(written).containsExactly(events.subList(0, 2), events.subList(2, 3));
+        verify(repository, times(2)).addDailyStats(anyList());
+    }
+
+    @Test
+    void flushRunsInItsOwnTransaction() {
+        log.record(List.of(event()));
+        log.flush();
+
+        verify(transactionManager).getTransaction(argThat(
+                definition -> definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW
+        ));
+    }
+
+    @Test
+    void fullBufferDropsAndCountsInsteadOfFlushing() {
+        log.record(List.of(event(), event(), event(), event(), event()));
+
+        verifyNoInteractions(repository, transactionManager);
+        assertThat(meterRegistry.counter("reviews.events.dropped").count()).isEqualTo(2);
+    }
+
+    @Test
+    void failedFlushKeepsEventsForTheNextOne() {
+        List<ReviewEvent> events = List.of(event(), event());
+        log.record(events);
+        doThrow(new DataAccessResourceFailureException("down")).when(repository).addDailyStats(anyList());
+
+        log.flush();
+        assertThat(written).hasSize(1);
+
+        reset(repository);
+        captureWrites();
+        log.flush();
+        assertThat(written).containsExactly(events, events);
+        assertThat(meterRegistry.counter("reviews.events.dropped").count()).isZero();
+    }
+
+    private void captureWrites() {
+        doAnswer(invocation -> {
+            written.add(List.copyOf(invocation.<List<ReviewEvent>>getArgument(0)));
+            return null;
+        }).when(repository).insertEvents(anyList());
+    }
+
+    private static ReviewEvent event() {
+        return new ReviewEvent(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                4,
+                UserVocabStatus.NEW,
+                UserVocabStatus.LEARNING,
+                10,
+                LocalDateTime.of(2026, 1, 1, 12, 0),
+                LocalDate.of(2026, 1, 1)
+        );
+    }
+}
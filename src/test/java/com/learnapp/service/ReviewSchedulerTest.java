@@ -0,0 +1,47 @@
+package com.learnapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.learnapp.entities.UserVocabulary;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+class ReviewSchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @Test
+    void successfulReviewsGrowTheInterval() {
+        UserVocabulary card = UserVocabulary.builder().build();
+
+        ReviewScheduler.review(card, 4, NOW);
+        assertThat(card.getIntervalDays()).isEqualTo(1);
+        assertThat(card.getDueAt()).isEqualTo(NOW.plusDays(1));
+
+        ReviewScheduler.review(card, 4, NOW);
+        assertThat(card.getIntervalDays()).isEqualTo(6);
+
+        ReviewScheduler.review(card, 5, NOW);
+        assertThat(card.getRepetitions()).isEqualTo(3);
+        assertThat(card.getEaseFactor()).isCloseTo(2.6, within(1e-9));
+        assertThat(card.getIntervalDays()).isEqualTo(15);
+        assertThat(card.getDueAt()).isEqualTo(NOW.plusDays(15));
+    }
+
+    @Test
+    void failedReviewResetsRepetitionsAndKeepsEaseAboveMinimum() {
+        UserVocabulary card = UserVocabulary.builder()
+                .repetitions(5)
+                .intervalDays(40)
+                .easeFactor(1.4)
+                .build();
+
+        ReviewScheduler.review(card, 0, NOW);
+
+        assertThat(card.getRepetitions()).isZero();
+        assertThat(card.getIntervalDays()).isEqualTo(1);
+        assertThat(card.getEaseFactor()).isEqualTo(ReviewScheduler.MIN_EASE);
+        assertThat(card.getDueAt()).isEqualTo(NOW.plusDays(1));
+    }
+}
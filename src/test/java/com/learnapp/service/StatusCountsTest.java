@@ -0,0 +1,53 @@
+package com.learnapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.learnapp.entities.UserVocabStatus;
+import org.junit.jupiter.api.Test;
+
+class StatusCountsTest {
+
+    @Test
+    void addMoveAndRemoveAdjustTheMatchingStatuses() {
+        StatusCounts added = new StatusCounts();
+        added.move(null, UserVocabStatus.NEW);
+        assertThat(counts(added)).containsExactly(1, 0, 0);
+
+        StatusCounts moved = new StatusCounts();
+        moved.move(UserVocabStatus.LEARNING, UserVocabStatus.MASTERED);
+        assertThat(counts(moved)).containsExactly(0, -1, 1);
+
+        StatusCounts removed = new StatusCounts();
+        removed.move(UserVocabStatus.MASTERED, null);
+        assertThat(counts(removed)).containsExactly(0, 0, -1);
+    }
+
+    @Test
+    void unchangedStatusLeavesCountsEmpty() {
+        StatusCounts counts = new StatusCounts();
+        counts.move(UserVocabStatus.LEARNING, UserVocabStatus.LEARNING);
+
+        assertThat(counts.isEmpty()).isTrue();
+    }
+
+    @Test
+    void movesWithinOneTransactionNetOut() {
+        StatusCounts counts = new StatusCounts();
+        counts.move(UserVocabStatus.NEW, UserVocabStatus.LEARNING);
+        counts.move(UserVocabStatus.LEARNING, UserVocabStatus.MASTERED);
+        counts.move(UserVocabStatus.NEW, UserVocabStatus.LEARNING);
+        assertThat(counts(counts)).containsExactly(-2, 1, 1);
+
+        counts.move(UserVocabStatus.MASTERED, UserVocabStatus.NEW);
+        counts.move(UserVocabStatus.LEARNING, UserVocabStatus.NEW);
+        assertThat(counts.isEmpty()).isTrue();
+    }
+
+    private static int[] counts(StatusCounts counts) {
+        return new int[] {
+            counts.get(UserVocabStatus.NEW),
+            counts.get(UserVocabStatus.LEARNING),
+            counts.get(UserVocabStatus.MASTERED)
+        };
+    }
+}
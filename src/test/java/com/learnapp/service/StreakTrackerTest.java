@@ -0,0 +1,46 @@
+package com.learnapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.learnapp.entities.UserStreak;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class StreakTrackerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 1, 1);
+
+    @Test
+    void streakGrowsOnConsecutiveGoalDays() {
+        UserStreak streak = UserStreak.builder().build();
+
+        StreakTracker.record(streak, DAY, 5, 10);
+        assertThat(streak.getCurrentStreak()).isZero();
+
+        StreakTracker.record(streak, DAY, 5, 10);
+        assertThat(streak.getCurrentStreak()).isEqualTo(1);
+
+        StreakTracker.record(streak, DAY, 3, 10);
+        assertThat(streak.getCurrentStreak()).isEqualTo(1);
+        assertThat(StreakTracker.reviewsOn(streak, DAY)).isEqualTo(13);
+
+        StreakTracker.record(streak, DAY.plusDays(1), 10, 10);
+        assertThat(streak.getCurrentStreak()).isEqualTo(2);
+        assertThat(streak.getLongestStreak()).isEqualTo(2);
+        assertThat(StreakTracker.currentStreak(streak, DAY.plusDays(2))).isEqualTo(2);
+    }
+
+    @Test
+    void missedDayResetsStreakButKeepsLongest() {
+        UserStreak streak = UserStreak.builder().build();
+        StreakTracker.record(streak, DAY, 1, null);
+        StreakTracker.record(streak, DAY.plusDays(1), 1, null);
+
+        assertThat(StreakTracker.currentStreak(streak, DAY.plusDays(3))).isZero();
+
+        StreakTracker.record(streak, DAY.plusDays(3), 1, null);
+        assertThat(streak.getCurrentStreak()).isEqualTo(1);
+        assertThat(streak.getLongestStreak()).isEqualTo(2);
+        assertThat(StreakTracker.reviewsOn(streak, DAY.plusDays(4))).isZero();
+    }
+}
@@ -0,0 +1,101 @@
+package com.learnapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.learnapp.entities.Vocabulary;
+import com.learnapp.entities.VocabularyStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class SyncServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final SyncToken.Position RESTART = new SyncToken.Position(T0.minusSeconds(10), new UUID(0, 0));
+
+    @Test
+    void completeTableRestartsAtTheOverlapWindow() {
+        List<Row> rows = rows(3);
+
+        SyncService.Chunk<Row> chunk = SyncService.chunk(rows, 3, RESTART, Row::position);
+
+        assertThat(chunk.rows()).isEqualTo(rows);
+        assertThat(chunk.more()).isFalse();
+        assertThat(chunk.next()).isEqualTo(RESTART);
+    }
+
+    @Test
+    void truncatedTableContinuesAfterItsLastReturnedRow() {
+        List<Row> rows = rows(4);
+
+        SyncService.Chunk<Row> chunk = SyncService.chunk(rows, 3, RESTART, Row::position);
+
+        assertThat(chunk.rows()).containsExactlyElementsOf(rows.subList(0, 3));
+        assertThat(chunk.more()).isTrue();
+        assertThat(chunk.next()).isEqualTo(rows.get(2).position());
+    }
+
+    @Test
+    void emptyTableRestartsAtTheOverlapWindow() {
+        SyncService.Chunk<Row> chunk = SyncService.chunk(List.of(), 3, RESTART, Row::position);
+
+        assertThat(chunk.rows()).isEmpty();
+        assertThat(chunk.more()).isFalse();
+        assertThat(chunk.next()).isEqualTo(RESTART);
+    }
+
+    @Test
+    void approvedRowsCarryTheirTopicIds() {
+        UUID topicId = UUID.randomUUID();
+        Vocabulary approved = vocabulary(VocabularyStatus.APPROVED, T0, null);
+
+        SyncService.VocabularyChanges changes =
+                SyncService.vocabularyChanges(List.of(approved), Map.of(approved.getId(), List.of(topicId)));
+
+        assertThat(changes.changed()).singleElement().satisfies(row -> {
+            assertThat(row.id()).isEqualTo(approved.getId());
+            assertThat(row.topicIds()).containsExactly(topicId);
+        });
+        assertThat(changes.removed()).isEmpty();
+    }
+
+    @Test
+    void onlyRowsThatWereOnceApprovedAreReportedAsRemoved() {
+        Vocabulary pending = vocabulary(VocabularyStatus.PENDING, null, null);
+        Vocabulary rejectedPending = vocabulary(VocabularyStatus.REJECTED, null, null);
+        Vocabulary rejectedAfterApproval = vocabulary(VocabularyStatus.REJECTED, T0, null);
+        Vocabulary deleted = vocabulary(VocabularyStatus.APPROVED, T0, T0.plusDays(1));
+
+        SyncService.VocabularyChanges changes = SyncService.vocabularyChanges(
+                List.of(pending, rejectedPending, rejectedAfterApproval, deleted),
+                Map.of()
+        );
+
+        assertThat(changes.changed()).isEmpty();
+        assertThat(changes.removed()).containsExactly(rejectedAfterApproval.getId(), deleted.getId());
+    }
+
+    private static Vocabulary vocabulary(VocabularyStatus status, LocalDateTime approvedAt, LocalDateTime deletedAt) {
+        return Vocabulary.builder()
+                .id(UUID.randomUUID())
+                .term("hello")
+                .termNormalized("hello")
+                .language("en")
+                .status(status)
+                .approvedAt(approvedAt)
+                .deletedAt(deletedAt)
+                .build();
+    }
+
+    private static List<Row> rows(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Row(new SyncToken.Position(T0.plusSeconds(i), UUID.randomUUID())))
+                .toList();
+    }
+
+    private record Row(SyncToken.Position position) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.learnapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.learnapp.error.AppException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class SyncTokenTest {
+
+    @Test
+    void roundTripsEveryPosition() {
+        SyncToken token = new SyncToken(
+                position(LocalDateTime.of(2026, 3, 1, 10, 15, 30)),
+                position(LocalDateTime.of(2026, 3, 2, 0, 0)),
+                position(LocalDateTime.of(2026, 3, 3, 23, 59, 59, 123_000_000)),
+                SyncToken.START
+        );
+
+        String encoded = token.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(SyncToken.decode(encoded)).isEqualTo(token);
+    }
+
+    @Test
+    void blankTokenMeansInitial() {
+        assertThat(SyncToken.decode(null).isInitial()).isTrue();
+        assertThat(SyncToken.decode("  ").isInitial()).isTrue();
+        assertThat(SyncToken.decode(SyncToken.initial().encode()).isInitial()).isTrue();
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertInvalid("not base64!");
+        assertInvalid(base64("2026-01-01T00:00|" + UUID.randomUUID()));
+        assertInvalid(base64("a~b~c~d"));
+        assertInvalid(base64("2026-01-01T00:00|x~2026-01-01T00:00|x~2026-01-01T00:00|x~2026-01-01T00:00|x"));
+    }
+
+    private static void assertInvalid(String token) {
+        assertThatThrownBy(() -> SyncToken.decode(token))
+                .isInstanceOfSatisfying(AppException.class, ex ->
+                        assertThat(ex.getErrorCode()).isEqualTo("INVALID_SYNC_TOKEN"));
+    }
+
+    private static String base64(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static SyncToken.Position position(LocalDateTime updatedAt) {
+        return new SyncToken.Position(updatedAt, UUID.randomUUID());
+    }
+}
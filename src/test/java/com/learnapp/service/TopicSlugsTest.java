@@ -0,0 +1,32 @@
+package com.learnapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TopicSlugsTest {
+
+    @Test
+    void usesBaseWhenFree() {
+        assertThat(TopicSlugs.nextFree("food", List.of())).isEqualTo("food");
+        assertThat(TopicSlugs.nextFree("food", List.of("food-1", "food-2"))).isEqualTo("food");
+    }
+
+    @Test
+    void fillsTheSmallestFreeSuffix() {
+        assertThat(TopicSlugs.nextFree("food", List.of("food"))).isEqualTo("food-1");
+        assertThat(TopicSlugs.nextFree("food", List.of("food", "food-1", "food-3"))).isEqualTo("food-2");
+        assertThat(TopicSlugs.nextFree("food", List.of("food", "food-2", "food-1"))).isEqualTo("food-3");
+    }
+
+    @Test
+    void ignoresSlugsThatOnlyShareThePrefix() {
+        List<String> taken = List.of("food", "food-drinks", "food-01", "food-1-2");
+
+        assertThat(TopicSlugs.nextFree("food", taken)).isEqualTo("food-1");
+        assertThat(TopicSlugs.hasBase("food-12", "food")).isTrue();
+        assertThat(TopicSlugs.hasBase("food-drinks", "food")).isFalse();
+        assertThat(TopicSlugs.hasBase("foods", "food")).isFalse();
+    }
+}
@@ -0,0 +1,227 @@
+package com.learnapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.learnapp.dto.BatchReviewRequest;
+import com.learnapp.dto.ReviewItemRequest;
+import com.learnapp.dto.VocabularyResponse;
+import com.learnapp.entities.UserStatus;
+import com.learnapp.entities.UserStreak;
+import com.learnapp.entities.UserVocabStatus;
+import com.learnapp.entities.UserVocabulary;
+import com.learnapp.entities.VocabularyStatus;
+import com.learnapp.repository.ReviewEvent;
+import com.learnapp.repository.UserLiveness;
+import com.learnapp.repository.UserStreakRepository;
+import com.learnapp.repository.UserVocabCounterRepository;
+import com.learnapp.repository.UserVocabTombstoneRepository;
+import com.learnapp.repository.UserVocabularyRepository;
+import com.learnapp.service.UserVocabularyService.ReviewOutcome;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class UserVocabularyServiceTest {
+
+    private static final LocalDateTime REVIEWED_AT = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    private final UserVocabularyRepository userVocabularyRepository = mock(UserVocabularyRepository.class);
+    private final UserVocabCounterRepository counterRepository = mock(UserVocabCounterRepository.class);
+    private final UserStreakRepository streakRepository = mock(UserStreakRepository.class);
+    private final UserLivenessCache userLiveness = mock(UserLivenessCache.class);
+    private final ReviewEventLog reviewEventLog = mock(ReviewEventLog.class);
+    private final ApprovedVocabularyCache approvedVocabularies = mock(ApprovedVocabularyCache.class);
+    private final UUID userId = UUID.randomUUID();
+
+    private UserVocabularyService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new UserVocabularyService(
+                userVocabularyRepository,
+                counterRepository,
+                streakRepository,
+                userLiveness,
+                mock(PageTotalsCache.class),
+                approvedVocabularies,
+                reviewEventLog,
+                mock(LeaderboardService.class),
+                mock(UserVocabTombstoneRepository.class)
+        );
+        when(userLiveness.get(userId))
+                .thenReturn(Optional.of(new UserLiveness(userId, null, UserStatus.ACTIVE, "UTC", 10)));
+        when(streakRepository.findForUpdate(userId)).thenReturn(Optional.of(new UserStreak()));
+    }
+
+    @Test
+    void addCountsTheCardAsNew() {
+        UUID vocabularyId = UUID.randomUUID();
+        when(approvedVocabularies.get(vocabularyId)).thenReturn(Optional.of(approved(vocabularyId)));
+
+        service.add(userId, vocabularyId);
+
+        verify(counterRepository).adjust(any(), eq(1), eq(0), eq(0));
+    }
+
+    @Test
+    void statusChangeMovesTheCardBetweenCounts() {
+        UserVocabulary card = card(UserVocabStatus.LEARNING);
+        when(userVocabularyRepository.findByUserIdAndVocabularyId(userId, card.getVocabularyId()))
+                .thenReturn(Optional.of(card));
+
+        service.update(userId, card.getVocabularyId(), UserVocabStatus.MASTERED, null, null, null);
+
+        verify(counterRepository).adjust(any(), eq(0), eq(-1), eq(1));
+    }
+
+    @Test
+    void updateWithoutStatusChangeLeavesCountsAlone() {
+        UserVocabulary card = card(UserVocabStatus.LEARNING);
+        when(userVocabularyRepository.findByUserIdAndVocabularyId(userId, card.getVocabularyId()))
+                .thenReturn(Optional.of(card));
+
+        service.update(userId, card.getVocabularyId(), UserVocabStatus.LEARNING, 40, null, null);
+
+        verify(counterRepository, never()).adjust(any(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    void removeUncountsTheCardFromItsStatus() {
+        UserVocabulary card = card(UserVocabStatus.MASTERED);
+        when(userVocabularyRepository.findByUserIdAndVocabularyId(userId, card.getVocabularyId()))
+                .thenReturn(Optional.of(card));
+
+        service.remove(userId, card.getVocabularyId());
+
+        verify(counterRepository).adjust(any(), eq(0), eq(0), eq(-1));
+    }
+
+    @Test
+    void repeatedItemIsReportedAndAppliedOnce() {
+        UserVocabulary card = card(UserVocabStatus.LEARNING);
+        cards(card);
+
+        List<ReviewOutcome> outcomes = service.reviewBatch(userId, List.of(
+                item(card.getVocabularyId(), 4),
+                item(card.getVocabularyId(), 1)
+        ), REVIEWED_AT);
+
+        assertThat(outcomes).extracting(ReviewOutcome::error).containsExactly(null, "DUPLICATE_ITEM");
+        assertThat(card.getRepetitions()).isEqualTo(1);
+        assertThat(recordedEvents()).hasSize(1);
+    }
+
+    @Test
+    void cardNotInTheListIsReportedWithoutFailingTheBatch() {
+        UUID unknown = UUID.randomUUID();
+        cards();
+
+        List<ReviewOutcome> outcomes = service.reviewBatch(userId, List.of(item(unknown, 4)), REVIEWED_AT);
+
+        assertThat(outcomes).singleElement().satisfies(outcome -> {
+            assertThat(outcome.vocabularyId()).isEqualTo(unknown);
+            assertThat(outcome.card()).isNull();
+            assertThat(outcome.error()).isEqualTo("USER_VOCAB_NOT_FOUND");
+        });
+        assertThat(recordedEvents()).isEmpty();
+        verify(counterRepository, never()).adjust(any(), anyInt(), anyInt(), anyInt());
+        verify(streakRepository, never()).findForUpdate(any());
+    }
+
+    @Test
+    void mixedBatchKeepsItemOrderAndCountsOnlyAppliedReviews() {
+        UserVocabulary fresh = card(UserVocabStatus.NEW);
+        UserVocabulary learning = card(UserVocabStatus.LEARNING);
+        UUID unknown = UUID.randomUUID();
+        cards(fresh, learning);
+
+        List<ReviewOutcome> outcomes = service.reviewBatch(userId, List.of(
+                item(fresh.getVocabularyId(), 4),
+                item(unknown, 4),
+                new ReviewItemRequest(learning.getVocabularyId(), UserVocabStatus.MASTERED, 100, 5),
+                item(fresh.getVocabularyId(), 2)
+        ), REVIEWED_AT);
+
+        assertThat(outcomes).extracting(ReviewOutcome::vocabularyId).containsExactly(
+                fresh.getVocabularyId(), unknown, learning.getVocabularyId(), fresh.getVocabularyId()
+        );
+        assertThat(outcomes).extracting(ReviewOutcome::error)
+                .containsExactly(null, "USER_VOCAB_NOT_FOUND", null, "DUPLICATE_ITEM");
+        assertThat(fresh.getStatus()).isEqualTo(UserVocabStatus.LEARNING);
+        assertThat(learning.getStatus()).isEqualTo(UserVocabStatus.MASTERED);
+        assertThat(recordedEvents()).extracting(ReviewEvent::vocabularyId)
+                .containsExactly(fresh.getVocabularyId(), learning.getVocabularyId());
+        // NEW -> LEARNING and LEARNING -> MASTERED: one card leaves NEW, one reaches MASTERED.
+        verify(counterRepository).adjust(any(), eq(-1), eq(0), eq(1));
+    }
+
+    @Test
+    void batchIsCappedAtTwoHundredItems() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        List<ReviewItemRequest> items = new ArrayList<>(Collections.nCopies(200, item(UUID.randomUUID(), 4)));
+
+        assertThat(validator.validate(new BatchReviewRequest(items))).isEmpty();
+
+        items.add(item(UUID.randomUUID(), 4));
+        assertThat(validator.validate(new BatchReviewRequest(items)))
+                .singleElement()
+                .satisfies(violation -> assertThat(violation.getPropertyPath()).hasToString("items"));
+    }
+
+    @Test
+    void outOfRangeGradeIsRejectedByRequestValidation() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+        assertThat(validator.validate(item(UUID.randomUUID(), 6))).isNotEmpty();
+        assertThat(validator.validate(item(UUID.randomUUID(), -1))).isNotEmpty();
+    }
+
+    private void cards(UserVocabulary... cards) {
+        when(userVocabularyRepository.findByUserIdAndVocabularyIdIn(eq(userId), anyCollection()))
+                .thenReturn(List.of(cards));
+    }
+
+    private List<ReviewEvent> recordedEvents() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ReviewEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(reviewEventLog).record(events.capture());
+        return events.getValue();
+    }
+
+    private UserVocabulary card(UserVocabStatus status) {
+        return UserVocabulary.builder()
+                .id(UUID.randomUUID())
+                .userId(userId)
+                .vocabularyId(UUID.randomUUID())
+                .status(status)
+                .build();
+    }
+
+    private static ApprovedVocabulary approved(UUID vocabularyId) {
+        VocabularyResponse response = new VocabularyResponse(
+                vocabularyId, "airport", "A place for planes", null, null, null, "en",
+                VocabularyStatus.APPROVED, null, REVIEWED_AT
+        );
+        return new ApprovedVocabulary(response, REVIEWED_AT);
+    }
+
+    private static ReviewItemRequest item(UUID vocabularyId, int grade) {
+        return new ReviewItemRequest(vocabularyId, null, null, grade);
+    }
+}
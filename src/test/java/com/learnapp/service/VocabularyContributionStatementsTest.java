@@ -0,0 +1,79 @@
+package com.learnapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.learnapp.entities.Topic;
+import com.learnapp.entities.TopicStatus;
+import com.learnapp.repository.TopicRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Counts the JDBC statements a contribution issues against a real MySQL database.
+ * Runs only when {@code DB_URL} is set; every case rolls back.
+ */
+@SpringBootTest
+@ActiveProfiles("db-test")
+@EnabledIfEnvironmentVariable(named = "DB_URL", matches = ".+")
+class VocabularyContributionStatementsTest {
+
+    @Autowired
+    private VocabularyService vocabularyService;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void statementCountDoesNotGrowWithTheNumberOfTopics() {
+        long twoTopics = statementsForContribution(2);
+        long twentyTopics = statementsForContribution(20);
+
+        assertThat(twentyTopics).isEqualTo(twoTopics);
+    }
+
+    private long statementsForContribution(int topicCount) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Long prepared = transaction.execute(status -> {
+            List<UUID> topicIds = new ArrayList<>(topicCount);
+            for (int i = 0; i < topicCount; i++) {
+                String slug = "statements-" + UUID.randomUUID();
+                Topic topic = Topic.builder().name(slug).slug(slug).status(TopicStatus.ACTIVE).build();
+                topicIds.add(topicRepository.save(topic).getId());
+            }
+            entityManager.flush();
+            entityManager.clear();
+            statistics.clear();
+
+            // Same term length in every run, so the n-gram rows are the same size too.
+            String term = "probe" + UUID.randomUUID().toString().replace("-", "");
+            vocabularyService.createContribution(null, term, "definition", null, null, null, "en", topicIds);
+            entityManager.flush();
+
+            status.setRollbackOnly();
+            return statistics.getPrepareStatementCount();
+        });
+        return prepared == null ? 0 : prepared;
+    }
+}
@@ -0,0 +1,36 @@
+package com.learnapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.learnapp.entities.Vocabulary;
+import com.learnapp.repository.VocabularyNgramJdbcRepository;
+import com.learnapp.repository.VocabularyNgramRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class VocabularyNgramServiceTest {
+
+    private final VocabularyNgramRepository ngramRepository = mock(VocabularyNgramRepository.class);
+    private final VocabularyNgramService service =
+            new VocabularyNgramService(ngramRepository, mock(VocabularyNgramJdbcRepository.class));
+
+    @Test
+    void countsOnlyVocabulariesThatGotPostings() {
+        Vocabulary indexed = vocabulary("hello");
+        Vocabulary longTerm = vocabulary("airport");
+        Vocabulary shortTerm = vocabulary("go");
+        when(ngramRepository.findIndexedVocabularyIds(anyCollection())).thenReturn(List.of(indexed.getId()));
+
+        int count = service.indexMissing(List.of(indexed, longTerm, shortTerm));
+
+        assertThat(count).isEqualTo(1);
+    }
+
+    private static Vocabulary vocabulary(String term) {
+        return Vocabulary.builder().id(UUID.randomUUID()).term(term).termNormalized(term).language("en").build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.learnapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.learnapp.entities.Topic;
+import com.learnapp.entities.TopicStatus;
+import com.learnapp.entities.TopicVocabulary;
+import com.learnapp.entities.Vocabulary;
+import com.learnapp.entities.VocabularyStatus;
+import com.learnapp.error.AppException;
+import com.learnapp.repository.TopicRepository;
+import com.learnapp.repository.TopicVocabularyRepository;
+import com.learnapp.repository.VocabularyRepository;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class VocabularyServiceTest {
+
+    private final VocabularyRepository vocabularyRepository = mock(VocabularyRepository.class);
+    private final TopicRepository topicRepository = mock(TopicRepository.class);
+    private final TopicVocabularyRepository topicVocabularyRepository = mock(TopicVocabularyRepository.class);
+
+    private VocabularyService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new VocabularyService(
+                vocabularyRepository,
+                topicRepository,
+                topicVocabularyRepository,
+                mock(VocabularySuggestionService.class),
+                mock(VocabularyNgramService.class),
+                mock(PageTotalsCache.class),
+                mock(ApprovedVocabularyCache.class),
+                mock(TopicPageCache.class),
+                mock(EntityManager.class)
+        );
+        when(vocabularyRepository.save(any(Vocabulary.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void validatesAllTopicsInOneQueryAndInsertsLinksInOneBatch() {
+        Topic travel = topic(TopicStatus.ACTIVE);
+        Topic food = topic(TopicStatus.ACTIVE);
+        when(topicRepository.findAllByIdInAndDeletedAtIsNull(anyCollection())).thenReturn(List.of(travel, food));
+
+        contribute(List.of(travel.getId(), food.getId(), travel.getId()));
+
+        verify(topicRepository).findAllByIdInAndDeletedAtIsNull(anyCollection());
+        verifyNoMoreInteractions(topicRepository);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TopicVocabulary>> links = ArgumentCaptor.forClass(List.class);
+        verify(topicVocabularyRepository).saveAll(links.capture());
+        assertThat(links.getValue())
+                .extracting(TopicVocabulary::getTopicId)
+                .containsExactly(travel.getId(), food.getId());
+        // New links go straight to persist; merging would cost a SELECT per link.
+        assertThat(links.getValue()).allMatch(TopicVocabulary::isNew);
+    }
+
+    @Test
+    void reportsEveryMissingAndInactiveTopicAtOnce() {
+        Topic active = topic(TopicStatus.ACTIVE);
+        Topic inactive = topic(TopicStatus.INACTIVE);
+        UUID missing = UUID.randomUUID();
+        when(topicRepository.findAllByIdInAndDeletedAtIsNull(anyCollection())).thenReturn(List.of(active, inactive));
+
+        assertThatThrownBy(() -> contribute(List.of(active.getId(), inactive.getId(), missing)))
+                .isInstanceOfSatisfying(AppException.class, ex -> {
+                    assertThat(ex.getErrorCode()).isEqualTo("TOPIC_NOT_FOUND");
+                    assertThat(ex.getDetails()).containsEntry(
+                            "topicErrors",
+                            Map.of(inactive.getId(), "TOPIC_INACTIVE", missing, "TOPIC_NOT_FOUND")
+                    );
+                });
+
+        verify(topicRepository).findAllByIdInAndDeletedAtIsNull(anyCollection());
+        verify(vocabularyRepository, never()).save(any());
+        verify(topicVocabularyRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void onlyMovesIntoOrOutOfApprovedChangeTheTopicCount() {
+        assertThat(VocabularyService.vocabCountDelta(VocabularyStatus.PENDING, VocabularyStatus.APPROVED)).isEqualTo(1);
+        assertThat(VocabularyService.vocabCountDelta(VocabularyStatus.REJECTED, VocabularyStatus.APPROVED)).isEqualTo(1);
+        assertThat(VocabularyService.vocabCountDelta(VocabularyStatus.APPROVED, VocabularyStatus.APPROVED)).isZero();
+        assertThat(VocabularyService.vocabCountDelta(VocabularyStatus.APPROVED, VocabularyStatus.REJECTED)).isEqualTo(-1);
+        assertThat(VocabularyService.vocabCountDelta(VocabularyStatus.PENDING, VocabularyStatus.REJECTED)).isZero();
+        assertThat(VocabularyService.vocabCountDelta(VocabularyStatus.REJECTED, VocabularyStatus.REJECTED)).isZero();
+    }
+
+    @Test
+    void approveReadsTheStatusUnderARowLock() {
+        UUID topicId = UUID.randomUUID();
+        Vocabulary vocabulary = vocabulary(VocabularyStatus.PENDING);
+        when(vocabularyRepository.findForUpdate(vocabulary.getId())).thenReturn(Optional.of(vocabulary));
+        when(topicVocabularyRepository.findTopicIdsByVocabularyId(vocabulary.getId())).thenReturn(List.of(topicId));
+
+        service.approve(vocabulary.getId());
+
+        verify(vocabularyRepository, never()).findByIdAndDeletedAtIsNull(any());
+        verify(topicRepository).adjustVocabCount(List.of(topicId), 1);
+    }
+
+    @Test
+    void approvingTwiceOnlyBumpsTheCatalogVersion() {
+        UUID topicId = UUID.randomUUID();
+        Vocabulary vocabulary = vocabulary(VocabularyStatus.APPROVED);
+        when(vocabularyRepository.findForUpdate(vocabulary.getId())).thenReturn(Optional.of(vocabulary));
+        when(topicVocabularyRepository.findTopicIdsByVocabularyId(vocabulary.getId())).thenReturn(List.of(topicId));
+
+        service.approve(vocabulary.getId());
+
+        verify(topicRepository).incrementCatalogVersion(List.of(topicId));
+        verify(topicRepository, never()).adjustVocabCount(anyCollection(), anyInt());
+    }
+
+    private void contribute(List<UUID> topicIds) {
+        service.createContribution(UUID.randomUUID(), "Airport", "A place for planes", null, null, null, "en", topicIds);
+    }
+
+    private static Vocabulary vocabulary(VocabularyStatus status) {
+        Vocabulary vocabulary = new Vocabulary();
+        vocabulary.setId(UUID.randomUUID());
+        vocabulary.setTerm("airport");
+        vocabulary.setTermNormalized("airport");
+        vocabulary.setLanguage("en");
+        vocabulary.setStatus(status);
+        return vocabulary;
+    }
+
+    private static Topic topic(TopicStatus status) {
+        return Topic.builder().id(UUID.randomUUID()).name("t").slug("t").status(status).build();
+    }
+}